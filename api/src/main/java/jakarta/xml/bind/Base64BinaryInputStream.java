@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * {@linkplain InputStream} that decodes xsd:base64Binary text read from a {@linkplain Reader}.
+ *
+ * <p>
+ * Characters are decoded by the same {@linkplain DatatypeConverterImpl.Base64Decoder} as
+ * {@linkplain DatatypeConverterImpl#_parseBase64Binary(String)} uses: characters outside of the base64 alphabet (such
+ * as whitespace) are skipped and an incomplete quadruplet at the end of the text is ignored. Only a fixed size character buffer is held, regardless of the length of the text.
+ */
+final class Base64BinaryInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final Reader in;
+
+    private final char[] chars = new char[BUFFER_SIZE];
+    private final CharBuffer text = CharBuffer.wrap(chars);
+    private int charPos;
+    private int charLimit;
+
+    private final DatatypeConverterImpl.Base64Decoder decoder = new DatatypeConverterImpl.Base64Decoder();
+
+    /**
+     * Bytes of the last quadruplet that did not fit into the caller's buffer.
+     */
+    private final byte[] pending = new byte[3];
+    private int pendingPos;
+    private int pendingLimit;
+
+    private boolean eof;
+
+    /**
+     * Scratch buffer of {@linkplain #read()}.
+     */
+    private final byte[] single = new byte[1];
+
+    Base64BinaryInputStream(Reader in) {
+        if (in == null) {
+            throw new IllegalArgumentException("reader is null");
+        }
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        int o = off;
+        final int end = off + len;
+
+        while (pendingPos < pendingLimit && o < end) {
+            b[o++] = pending[pendingPos++];
+        }
+
+        while (o < end) {
+            if (charPos == charLimit) {
+                // don't block for more text once something can be returned
+                if (o > off || !fill()) {
+                    break;
+                }
+            }
+
+            o = decoder.decode(text, charPos, charLimit, b, o, end);
+            charPos = decoder.next;
+            if (decoder.needed > 0) {
+                // the next quadruplet does not fit into the caller's buffer
+                pendingPos = 0;
+                pendingLimit = decoder.decode(text, charPos, charLimit, pending, 0, pending.length);
+                charPos = decoder.next;
+                while (pendingPos < pendingLimit && o < end) {
+                    b[o++] = pending[pendingPos++];
+                }
+            }
+        }
+
+        return o == off && eof ? -1 : o - off;
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int n;
+        do {
+            n = in.read(chars, 0, chars.length);
+        } while (n == 0);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        charPos = 0;
+        charLimit = n;
+        return true;
+    }
+
+    @Override
+    public int available() {
+        return pendingLimit - pendingPos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
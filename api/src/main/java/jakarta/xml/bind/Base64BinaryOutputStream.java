@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * {@linkplain OutputStream} that writes the xsd:base64Binary encoding of the bytes written to it to a
+ * {@linkplain Writer}.
+ *
+ * <p>
+ * The output is the same as {@linkplain DatatypeConverterImpl#_printBase64Binary(byte[])}. Up to two bytes are held
+ * back until the next write, so the padding of the last quadruplet is only written by {@linkplain #close()}.
+ */
+final class Base64BinaryOutputStream extends OutputStream {
+
+    /**
+     * Number of bytes encoded in one go, a multiple of 3.
+     */
+    private static final int CHUNK_SIZE = 3 * 1024;
+
+    private final Writer out;
+
+    private final char[] buf = new char[CHUNK_SIZE / 3 * 4];
+
+    private final byte[] leftover = new byte[3];
+    private int leftoverLen;
+
+    private boolean closed;
+
+    /**
+     * Scratch buffer of {@linkplain #write(int)}.
+     */
+    private final byte[] single = new byte[1];
+
+    Base64BinaryOutputStream(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("writer is null");
+        }
+        this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+
+        if (leftoverLen > 0) {
+            while (leftoverLen < 3 && len > 0) {
+                leftover[leftoverLen++] = b[off++];
+                len--;
+            }
+            if (leftoverLen < 3) {
+                return;
+            }
+            out.write(buf, 0, DatatypeConverterImpl._printBase64Binary(leftover, 0, 3, buf, 0));
+            leftoverLen = 0;
+        }
+
+        while (len >= 3) {
+            int n = Math.min(len - len % 3, CHUNK_SIZE);
+            out.write(buf, 0, DatatypeConverterImpl._printBase64Binary(b, off, n, buf, 0));
+            off += n;
+            len -= n;
+        }
+
+        System.arraycopy(b, off, leftover, 0, len);
+        leftoverLen = len;
+    }
+
+    /**
+     * Flushes the underlying writer. Bytes that don't make up a full group of three yet stay buffered.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        out.flush();
+    }
+
+    /**
+     * Writes the remaining bytes with the necessary padding and closes the underlying writer.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (leftoverLen > 0) {
+                out.write(buf, 0, DatatypeConverterImpl._printBase64Binary(leftover, 0, leftoverLen, buf, 0));
+                leftoverLen = 0;
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+    }
+}
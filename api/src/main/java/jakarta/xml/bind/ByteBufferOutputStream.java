@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * {@linkplain OutputStream} that writes into a {@linkplain ByteBuffer}.
+ *
+ * <p>
+ * Without a channel, the buffer grows when it is full: a buffer of the same kind (heap or direct) with at least twice
+ * the capacity replaces it, and {@linkplain #buffer()} returns the buffer in use. A replaced buffer is not flipped, so
+ * it keeps its limit. With a channel, the bytes go through a direct buffer, which is written to the channel
+ * when it is full and on {@linkplain #flush()}; the channel would otherwise copy every heap buffer into a temporary
+ * direct buffer of its own.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+
+    /**
+     * Size of the buffer used in front of a channel.
+     */
+    private static final int CHANNEL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Some VMs reserve header words in arrays, so don't try to grow all the way to {@linkplain Integer#MAX_VALUE}.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private ByteBuffer buffer;
+
+    private final WritableByteChannel channel;
+
+    /**
+     * Writes into {@code buffer} from its position on, growing it as needed.
+     */
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.channel = null;
+    }
+
+    /**
+     * Writes to {@code channel}, which must be in blocking mode.
+     */
+    ByteBufferOutputStream(WritableByteChannel channel) {
+        this.buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            makeRoom(1);
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len > buffer.remaining()) {
+            makeRoom(len);
+        }
+        // with a channel, writes larger than the buffer go through it in several rounds
+        while (len > buffer.remaining()) {
+            int n = buffer.remaining();
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            drain();
+        }
+        buffer.put(b, off, len);
+    }
+
+    /**
+     * Writes the buffered bytes to the channel, if there is one.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (channel != null) {
+            drain();
+        }
+    }
+
+    /**
+     * @return the buffer holding the bytes written so far, positioned after the last one.
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    private void makeRoom(int needed) throws IOException {
+        if (channel != null) {
+            drain();
+            return;
+        }
+
+        long min = (long) buffer.position() + needed;
+        if (min > MAX_CAPACITY) {
+            throw new IOException("XML does not fit into a ByteBuffer");
+        }
+        int capacity = (int) Math.min(Math.max(min, 2L * buffer.capacity()), MAX_CAPACITY);
+        ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        // a duplicate leaves the limit of the caller's buffer alone
+        grown.put(buffer.duplicate().flip());
+        buffer = grown;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+}
@@ -108,12 +108,33 @@ final public class DatatypeConverter {
                     Messages.format(Messages.CONVERTER_MUST_NOT_BE_NULL));
         } else if (theConverter == null) {
             SET_DATATYPE_CONVERTER_PERMISSION.checkGuard(null);
-            theConverter = converter;
+            synchronized (DatatypeConverter.class) {
+                if (theConverter == null) {
+                    theConverter = converter;
+                }
+            }
         }
     }
 
-    private static synchronized void initConverter() {
-        theConverter = new DatatypeConverterImpl();
+    /**
+     * Returns the converter set by the provider, or installs the default one if there is none yet.
+     */
+    private static synchronized DatatypeConverterInterface initConverter() {
+        if (theConverter == null) {
+            theConverter = DatatypeConverterImpl.theInstance;
+        }
+        return theConverter;
+    }
+
+    /**
+     * Resolves the converter on first use.
+     * <p>
+     * From then on {@linkplain #setDatatypeConverter(DatatypeConverterInterface)} has no effect, so the converter can
+     * be held in a {@code static final} field. The JIT treats it as a constant and binds the static print and parse
+     * methods directly to the converter's class, instead of a volatile read and an interface call per value.
+     */
+    private static final class ConverterHolder {
+        static final DatatypeConverterInterface converter = initConverter();
     }
 
     /**
@@ -125,10 +146,7 @@ final public class DatatypeConverter {
      * @return A String value represented by the string argument.
      */
     public static String parseString(String lexicalXSDString) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseString(lexicalXSDString);
+        return ConverterHolder.converter.parseString(lexicalXSDString);
     }
 
     /**
@@ -142,10 +160,7 @@ final public class DatatypeConverter {
      *                               {@linkplain java.math.BigInteger} value.
      */
     public static java.math.BigInteger parseInteger(String lexicalXSDInteger) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseInteger(lexicalXSDInteger);
+        return ConverterHolder.converter.parseInteger(lexicalXSDInteger);
     }
 
     /**
@@ -159,10 +174,7 @@ final public class DatatypeConverter {
      *                               <code>int</code> value.
      */
     public static int parseInt(String lexicalXSDInt) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseInt(lexicalXSDInt);
+        return ConverterHolder.converter.parseInt(lexicalXSDInt);
     }
 
     /**
@@ -176,10 +188,7 @@ final public class DatatypeConverter {
      *                               <code>long</code> value.
      */
     public static long parseLong(String lexicalXSDLong) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseLong(lexicalXSDLong);
+        return ConverterHolder.converter.parseLong(lexicalXSDLong);
     }
 
     /**
@@ -193,10 +202,7 @@ final public class DatatypeConverter {
      *                               <code>short</code> value.
      */
     public static short parseShort(String lexicalXSDShort) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseShort(lexicalXSDShort);
+        return ConverterHolder.converter.parseShort(lexicalXSDShort);
     }
 
     /**
@@ -210,10 +216,7 @@ final public class DatatypeConverter {
      *                               {@linkplain java.math.BigDecimal}.
      */
     public static java.math.BigDecimal parseDecimal(String lexicalXSDDecimal) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseDecimal(lexicalXSDDecimal);
+        return ConverterHolder.converter.parseDecimal(lexicalXSDDecimal);
     }
 
     /**
@@ -227,10 +230,7 @@ final public class DatatypeConverter {
      *                               <code>float</code> value.
      */
     public static float parseFloat(String lexicalXSDFloat) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseFloat(lexicalXSDFloat);
+        return ConverterHolder.converter.parseFloat(lexicalXSDFloat);
     }
 
     /**
@@ -244,10 +244,7 @@ final public class DatatypeConverter {
      *                               <code>double</code> value.
      */
     public static double parseDouble(String lexicalXSDDouble) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseDouble(lexicalXSDDouble);
+        return ConverterHolder.converter.parseDouble(lexicalXSDDouble);
     }
 
     /**
@@ -261,10 +258,7 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:boolean.
      */
     public static boolean parseBoolean(String lexicalXSDBoolean) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseBoolean(lexicalXSDBoolean);
+        return ConverterHolder.converter.parseBoolean(lexicalXSDBoolean);
     }
 
     /**
@@ -278,10 +272,7 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:byte.
      */
     public static byte parseByte(String lexicalXSDByte) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseByte(lexicalXSDByte);
+        return ConverterHolder.converter.parseByte(lexicalXSDByte);
     }
 
     /**
@@ -302,10 +293,7 @@ final public class DatatypeConverter {
      */
     public static javax.xml.namespace.QName parseQName(String lexicalXSDQName,
                                                        NamespaceContext nsc) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseQName(lexicalXSDQName, nsc);
+        return ConverterHolder.converter.parseQName(lexicalXSDQName, nsc);
     }
 
     /**
@@ -319,10 +307,7 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:dateTime.
      */
     public static java.util.Calendar parseDateTime(String lexicalXSDDateTime) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseDateTime(lexicalXSDDateTime);
+        return ConverterHolder.converter.parseDateTime(lexicalXSDDateTime);
     }
 
     /**
@@ -336,10 +321,28 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:base64Binary
      */
     public static byte[] parseBase64Binary(String lexicalXSDBase64Binary) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseBase64Binary(lexicalXSDBase64Binary);
+        return ConverterHolder.converter.parseBase64Binary(lexicalXSDBase64Binary);
+    }
+
+    /**
+     * <p>
+     * Converts the string argument into bytes written to the given buffer, without allocating an intermediate array.
+     * <p>
+     * The bytes are written starting at the position of {@code dst}, which is advanced by the number of bytes written.
+     * No more than {@code lexicalXSDBase64Binary.length() / 4 * 3} bytes are written, so a buffer of that size, be it
+     * heap, direct or taken from a pool, is always large enough.
+     *
+     * @param lexicalXSDBase64Binary A string containing lexical representation of xsd:base64Binary.
+     * @param dst                    The buffer receiving the bytes represented by the string argument.
+     *
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException       if string parameter does not conform to lexical value space defined in XML
+     *                                        Schema Part 2: Datatypes for xsd:base64Binary
+     * @throws java.nio.BufferOverflowException if there is not enough room in {@code dst}; its position is not changed
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     */
+    public static int parseBase64Binary(CharSequence lexicalXSDBase64Binary, java.nio.ByteBuffer dst) {
+        return ConverterHolder.converter.parseBase64Binary(lexicalXSDBase64Binary, dst);
     }
 
     /**
@@ -353,10 +356,7 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:hexBinary.
      */
     public static byte[] parseHexBinary(String lexicalXSDHexBinary) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseHexBinary(lexicalXSDHexBinary);
+        return ConverterHolder.converter.parseHexBinary(lexicalXSDHexBinary);
     }
 
     /**
@@ -369,10 +369,7 @@ final public class DatatypeConverter {
      * @throws NumberFormatException if string parameter can not be parsed into a {@code long} value.
      */
     public static long parseUnsignedInt(String lexicalXSDUnsignedInt) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseUnsignedInt(lexicalXSDUnsignedInt);
+        return ConverterHolder.converter.parseUnsignedInt(lexicalXSDUnsignedInt);
     }
 
     /**
@@ -385,10 +382,7 @@ final public class DatatypeConverter {
      * @throws NumberFormatException if string parameter can not be parsed into an {@code int} value.
      */
     public static int parseUnsignedShort(String lexicalXSDUnsignedShort) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseUnsignedShort(lexicalXSDUnsignedShort);
+        return ConverterHolder.converter.parseUnsignedShort(lexicalXSDUnsignedShort);
     }
 
     /**
@@ -402,10 +396,7 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:Time.
      */
     public static java.util.Calendar parseTime(String lexicalXSDTime) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseTime(lexicalXSDTime);
+        return ConverterHolder.converter.parseTime(lexicalXSDTime);
     }
 
     /**
@@ -419,10 +410,7 @@ final public class DatatypeConverter {
      *                                  Schema Part 2: Datatypes for xsd:Date.
      */
     public static java.util.Calendar parseDate(String lexicalXSDDate) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseDate(lexicalXSDDate);
+        return ConverterHolder.converter.parseDate(lexicalXSDDate);
     }
 
     /**
@@ -434,10 +422,7 @@ final public class DatatypeConverter {
      * @return A string containing the lexical representation of the simple type.
      */
     public static String parseAnySimpleType(String lexicalXSDAnySimpleType) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.parseAnySimpleType(lexicalXSDAnySimpleType);
+        return ConverterHolder.converter.parseAnySimpleType(lexicalXSDAnySimpleType);
     }
 
     /**
@@ -451,10 +436,7 @@ final public class DatatypeConverter {
     // also indicate the print methods produce a lexical
     // representation for given Java datatypes.
     public static String printString(String val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printString(val);
+        return ConverterHolder.converter.printString(val);
     }
 
     /**
@@ -467,10 +449,7 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException {@code val} is null.
      */
     public static String printInteger(java.math.BigInteger val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printInteger(val);
+        return ConverterHolder.converter.printInteger(val);
     }
 
     /**
@@ -482,10 +461,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:int
      */
     public static String printInt(int val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printInt(val);
+        return ConverterHolder.converter.printInt(val);
     }
 
     /**
@@ -497,10 +473,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:long
      */
     public static String printLong(long val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printLong(val);
+        return ConverterHolder.converter.printLong(val);
     }
 
     /**
@@ -512,10 +485,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:short
      */
     public static String printShort(short val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printShort(val);
+        return ConverterHolder.converter.printShort(val);
     }
 
     /**
@@ -528,10 +498,7 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException {@code val} is null.
      */
     public static String printDecimal(java.math.BigDecimal val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printDecimal(val);
+        return ConverterHolder.converter.printDecimal(val);
     }
 
     /**
@@ -543,10 +510,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:float
      */
     public static String printFloat(float val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printFloat(val);
+        return ConverterHolder.converter.printFloat(val);
     }
 
     /**
@@ -558,10 +522,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:double
      */
     public static String printDouble(double val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printDouble(val);
+        return ConverterHolder.converter.printDouble(val);
     }
 
     /**
@@ -573,10 +534,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:boolean
      */
     public static String printBoolean(boolean val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printBoolean(val);
+        return ConverterHolder.converter.printBoolean(val);
     }
 
     /**
@@ -588,10 +546,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:byte
      */
     public static String printByte(byte val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printByte(val);
+        return ConverterHolder.converter.printByte(val);
     }
 
     /**
@@ -607,10 +562,7 @@ final public class DatatypeConverter {
      */
     public static String printQName(javax.xml.namespace.QName val,
                                     NamespaceContext nsc) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printQName(val, nsc);
+        return ConverterHolder.converter.printQName(val, nsc);
     }
 
     /**
@@ -623,10 +575,7 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException if {@code val} is null.
      */
     public static String printDateTime(java.util.Calendar val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printDateTime(val);
+        return ConverterHolder.converter.printDateTime(val);
     }
 
     /**
@@ -639,10 +588,43 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException if {@code val} is null.
      */
     public static String printBase64Binary(byte[] val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printBase64Binary(val);
+        return ConverterHolder.converter.printBase64Binary(val);
+    }
+
+    /**
+     * <p>
+     * Returns a stream of the bytes represented by the xsd:base64Binary text read from the given reader.
+     * <p>
+     * Unlike {@linkplain #parseBase64Binary(String)}, the text does not have to be held in memory at once, only a fixed
+     * size buffer is used. The returned stream decodes the same way as the Jakarta XML Binding default implementation of
+     * {@linkplain DatatypeConverterInterface#parseBase64Binary(String)}; an incomplete quadruplet at the end of the text
+     * is ignored. Closing the stream closes the reader.
+     *
+     * @param lexicalXSDBase64Binary A reader of the lexical representation of xsd:base64Binary.
+     *
+     * @return An input stream of the bytes represented by the text.
+     * @throws IllegalArgumentException if {@code lexicalXSDBase64Binary} is null.
+     */
+    public static java.io.InputStream newBase64BinaryInputStream(java.io.Reader lexicalXSDBase64Binary) {
+        return new Base64BinaryInputStream(lexicalXSDBase64Binary);
+    }
+
+    /**
+     * <p>
+     * Returns a stream that writes the xsd:base64Binary representation of the bytes written to it to the given writer.
+     * <p>
+     * Unlike {@linkplain #printBase64Binary(byte[])}, the bytes do not have to be held in memory at once. The output
+     * is the same as the one of the Jakarta XML Binding default implementation of
+     * {@linkplain DatatypeConverterInterface#printBase64Binary(byte[])}. The stream must be closed to write the last
+     * characters of the encoding, which also closes the writer.
+     *
+     * @param lexicalXSDBase64Binary A writer receiving the lexical representation of xsd:base64Binary.
+     *
+     * @return An output stream encoding the bytes written to it.
+     * @throws IllegalArgumentException if {@code lexicalXSDBase64Binary} is null.
+     */
+    public static java.io.OutputStream newBase64BinaryOutputStream(java.io.Writer lexicalXSDBase64Binary) {
+        return new Base64BinaryOutputStream(lexicalXSDBase64Binary);
     }
 
     /**
@@ -655,10 +637,42 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException if {@code val} is null.
      */
     public static String printHexBinary(byte[] val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printHexBinary(val);
+        return ConverterHolder.converter.printHexBinary(val);
+    }
+
+    /**
+     * <p>
+     * Returns a stream of the bytes represented by the xsd:hexBinary text read from the given reader.
+     * <p>
+     * Unlike {@linkplain #parseHexBinary(String)}, the text does not have to be held in memory at once, only a fixed
+     * size buffer is used. XML whitespace in the text is ignored. Reading fails with a
+     * {@linkplain java.io.CharConversionException} if the text contains any other character that is not a hex digit,
+     * or an odd number of digits. Closing the stream closes the reader.
+     *
+     * @param lexicalXSDHexBinary A reader of the lexical representation of xsd:hexBinary.
+     *
+     * @return An input stream of the bytes represented by the text.
+     * @throws IllegalArgumentException if {@code lexicalXSDHexBinary} is null.
+     */
+    public static java.io.InputStream newHexBinaryInputStream(java.io.Reader lexicalXSDHexBinary) {
+        return new HexBinaryInputStream(lexicalXSDHexBinary);
+    }
+
+    /**
+     * <p>
+     * Returns a stream that writes the xsd:hexBinary representation of the bytes written to it to the given writer.
+     * <p>
+     * Unlike {@linkplain #printHexBinary(byte[])}, the bytes do not have to be held in memory at once. The output is
+     * the same as the one of the Jakarta XML Binding default implementation of
+     * {@linkplain DatatypeConverterInterface#printHexBinary(byte[])}. Closing the stream closes the writer.
+     *
+     * @param lexicalXSDHexBinary A writer receiving the lexical representation of xsd:hexBinary.
+     *
+     * @return An output stream encoding the bytes written to it.
+     * @throws IllegalArgumentException if {@code lexicalXSDHexBinary} is null.
+     */
+    public static java.io.OutputStream newHexBinaryOutputStream(java.io.Writer lexicalXSDHexBinary) {
+        return new HexBinaryOutputStream(lexicalXSDHexBinary);
     }
 
     /**
@@ -670,10 +684,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:unsignedInt
      */
     public static String printUnsignedInt(long val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printUnsignedInt(val);
+        return ConverterHolder.converter.printUnsignedInt(val);
     }
 
     /**
@@ -685,10 +696,7 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:unsignedShort
      */
     public static String printUnsignedShort(int val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printUnsignedShort(val);
+        return ConverterHolder.converter.printUnsignedShort(val);
     }
 
     /**
@@ -701,10 +709,7 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException if {@code val} is null.
      */
     public static String printTime(java.util.Calendar val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printTime(val);
+        return ConverterHolder.converter.printTime(val);
     }
 
     /**
@@ -717,10 +722,7 @@ final public class DatatypeConverter {
      * @throws IllegalArgumentException if {@code val} is null.
      */
     public static String printDate(java.util.Calendar val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printDate(val);
+        return ConverterHolder.converter.printDate(val);
     }
 
     /**
@@ -732,9 +734,87 @@ final public class DatatypeConverter {
      * @return A string containing a lexical representation of xsd:AnySimpleType
      */
     public static String printAnySimpleType(String val) {
-        if (theConverter == null) {
-            initConverter();
-        }
-        return theConverter.printAnySimpleType(val);
+        return ConverterHolder.converter.printAnySimpleType(val);
+    }
+
+    /**
+     * <p>
+     * Converts a whitespace separated list of xsd:int values, as used by {@code xs:list} types, into an array.
+     *
+     * @param lexicalXSDList A string containing a lexical representation of a list of xsd:int.
+     *
+     * @return The values of the list, an empty array if the list is empty.
+     * @throws NumberFormatException {@code lexicalXSDList} contains an item that is not a valid xsd:int value.
+     */
+    public static int[] parseIntList(CharSequence lexicalXSDList) {
+        return ConverterHolder.converter.parseIntList(lexicalXSDList);
+    }
+
+    /**
+     * <p>
+     * Converts a whitespace separated list of xsd:long values, as used by {@code xs:list} types, into an array.
+     *
+     * @param lexicalXSDList A string containing a lexical representation of a list of xsd:long.
+     *
+     * @return The values of the list, an empty array if the list is empty.
+     * @throws NumberFormatException {@code lexicalXSDList} contains an item that is not a valid xsd:long value.
+     */
+    public static long[] parseLongList(CharSequence lexicalXSDList) {
+        return ConverterHolder.converter.parseLongList(lexicalXSDList);
+    }
+
+    /**
+     * <p>
+     * Converts a whitespace separated list of xsd:double values, as used by {@code xs:list} types, into an array.
+     *
+     * @param lexicalXSDList A string containing a lexical representation of a list of xsd:double.
+     *
+     * @return The values of the list, an empty array if the list is empty.
+     * @throws NumberFormatException {@code lexicalXSDList} contains an item that is not a valid xsd:double value.
+     */
+    public static double[] parseDoubleList(CharSequence lexicalXSDList) {
+        return ConverterHolder.converter.parseDoubleList(lexicalXSDList);
+    }
+
+    /**
+     * <p>
+     * Appends the lexical representation of a list of xsd:int values, separated by single spaces.
+     *
+     * @param val The values to print.
+     * @param out Where to append the list to.
+     *
+     * @throws IllegalArgumentException if {@code val} is null.
+     * @throws java.io.IOException      if appending to {@code out} fails.
+     */
+    public static void printIntList(int[] val, Appendable out) throws java.io.IOException {
+        ConverterHolder.converter.printIntList(val, out);
+    }
+
+    /**
+     * <p>
+     * Appends the lexical representation of a list of xsd:long values, separated by single spaces.
+     *
+     * @param val The values to print.
+     * @param out Where to append the list to.
+     *
+     * @throws IllegalArgumentException if {@code val} is null.
+     * @throws java.io.IOException      if appending to {@code out} fails.
+     */
+    public static void printLongList(long[] val, Appendable out) throws java.io.IOException {
+        ConverterHolder.converter.printLongList(val, out);
+    }
+
+    /**
+     * <p>
+     * Appends the lexical representation of a list of xsd:double values, separated by single spaces.
+     *
+     * @param val The values to print.
+     * @param out Where to append the list to.
+     *
+     * @throws IllegalArgumentException if {@code val} is null.
+     * @throws java.io.IOException      if appending to {@code out} fails.
+     */
+    public static void printDoubleList(double[] val, Appendable out) throws java.io.IOException {
+        ConverterHolder.converter.printDoubleList(val, out);
     }
 }
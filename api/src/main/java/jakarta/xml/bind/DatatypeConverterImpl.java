@@ -14,11 +14,27 @@
 
 package jakarta.xml.bind;
 
+import jakarta.xml.bind.internal.WhiteSpaceProcessor;
+
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
@@ -57,7 +73,18 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
     }
 
     public static BigInteger _parseInteger(CharSequence s) {
-        return new BigInteger(removeOptionalPlus(WhiteSpaceProcessor.trim(s)).toString());
+        int end = s.length();
+        int start = skipWhiteSpace(s, 0, end);
+        while (end > start && WhiteSpaceProcessor.isWhiteSpace(s.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end) {
+            BigInteger small = parseSmallInteger(s, start, end);
+            if (small != null) {
+                return small;
+            }
+        }
+        return new BigInteger(removeOptionalPlus(s.subSequence(start, end)).toString());
     }
 
     @Override
@@ -69,6 +96,10 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         if (null == val) {
             throw new IllegalArgumentException("val is null");
         }
+        if (val.bitLength() < 64) {
+            // BigInteger.toString goes through its general radix conversion even for small values
+            return Long.toString(val.longValue());
+        }
         return val.toString();
     }
 
@@ -117,7 +148,12 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
     }
 
     public static long _parseLong(CharSequence s) {
-        return Long.parseLong(removeOptionalPlus(WhiteSpaceProcessor.trim(s)).toString());
+        int end = s.length();
+        int start = skipWhiteSpace(s, 0, end);
+        while (end > start && WhiteSpaceProcessor.isWhiteSpace(s.charAt(end - 1))) {
+            end--;
+        }
+        return parseDecimalInteger(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
     @Override
@@ -144,13 +180,22 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
     }
 
     public static BigDecimal _parseDecimal(CharSequence content) {
-        content = WhiteSpaceProcessor.trim(content);
+        int end = content.length();
+        int start = skipWhiteSpace(content, 0, end);
+        while (end > start && WhiteSpaceProcessor.isWhiteSpace(content.charAt(end - 1))) {
+            end--;
+        }
 
-        if (content.isEmpty()) {
+        if (start == end) {
             return null;
         }
 
-        return new BigDecimal(content.toString());
+        BigDecimal small = parseSmallDecimal(content, start, end);
+        if (small != null) {
+            return small;
+        }
+
+        return new BigDecimal(content.subSequence(start, end).toString());
 
         // from purely XML Schema perspective,
         // this implementation has a problem, since
@@ -171,7 +216,19 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
     }
 
     public static float _parseFloat(CharSequence _val) {
-        String s = WhiteSpaceProcessor.trim(_val).toString();
+        int end = _val.length();
+        int start = skipWhiteSpace(_val, 0, end);
+        while (end > start && WhiteSpaceProcessor.isWhiteSpace(_val.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end) {
+            double d = parseExactDecimal(_val, start, end, true);
+            if (!Double.isNaN(d)) {
+                return (float) d;
+            }
+        }
+
+        String s = _val.subSequence(start, end).toString();
         /* Incompatibilities of XML Schema's float "xfloat" and Java's float "jfloat"
 
          * jfloat.valueOf ignores leading and trailing whitespaces,
@@ -224,6 +281,9 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         if (v == Float.NEGATIVE_INFINITY) {
             return "-INF";
         }
+        if (isSmallIntegral(v)) {
+            return Long.toString((long) v).concat(".0");
+        }
         return String.valueOf(v);
     }
 
@@ -233,7 +293,26 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
     }
 
     public static double _parseDouble(CharSequence _val) {
-        String val = WhiteSpaceProcessor.trim(_val).toString();
+        int end = _val.length();
+        int start = skipWhiteSpace(_val, 0, end);
+        while (end > start && WhiteSpaceProcessor.isWhiteSpace(_val.charAt(end - 1))) {
+            end--;
+        }
+        return _parseDouble(_val, start, end);
+    }
+
+    /**
+     * Parses the xsd:double in the given range, which must not have leading or trailing whitespace.
+     */
+    static double _parseDouble(CharSequence _val, int start, int end) {
+        if (start < end) {
+            double d = parseExactDecimal(_val, start, end, false);
+            if (!Double.isNaN(d)) {
+                return d;
+            }
+        }
+
+        String val = _val.subSequence(start, end).toString();
 
         switch (val) {
             case "NaN" -> {
@@ -257,6 +336,195 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         return Double.parseDouble(val);
     }
 
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /**
+     * Parses short decimals without going through {@linkplain Double#parseDouble(String)}.
+     * <p>
+     * When the significand is an integer that is exactly representable (at most 2^53, or 2^24 for floats) and so is the
+     * power of ten (up to 10^22, or 10^10 for floats), a single IEEE multiplication or division yields the correctly
+     * rounded result (Clinger's fast path). This covers the vast majority of values found in documents.
+     *
+     * @param asFloat if true, the result is rounded to float precision and returned widened to double.
+     * @return the value, or NaN if the text has to go through the JDK parser.
+     */
+    private static double parseExactDecimal(CharSequence s, int start, int end, boolean asFloat) {
+        int i = start;
+        boolean negative = false;
+        char ch = s.charAt(i);
+        if (ch == '-' || ch == '+') {
+            negative = ch == '-';
+            i++;
+        }
+
+        long m = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < end; i++) {
+            ch = s.charAt(i);
+            if (ch == '.' && !seenPoint) {
+                seenPoint = true;
+                continue;
+            }
+            if (ch < '0' || ch > '9') {
+                break;
+            }
+            seenDigit = true;
+            if (m != 0 || ch != '0') {
+                // leading zeros don't count
+                if (++digits > 18) {
+                    return Double.NaN;
+                }
+                m = m * 10 + (ch - '0');
+            }
+            if (seenPoint) {
+                exponent--;
+            }
+        }
+        if (!seenDigit) {
+            return Double.NaN;
+        }
+
+        if (i < end && (ch == 'e' || ch == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                negativeExponent = s.charAt(i) == '-';
+                i++;
+            }
+            int e = 0;
+            int exponentStart = i;
+            for (; i < end; i++) {
+                ch = s.charAt(i);
+                if (ch < '0' || ch > '9' || e > 10_000) {
+                    return Double.NaN;
+                }
+                e = e * 10 + (ch - '0');
+            }
+            if (i == exponentStart) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (i != end) {
+            return Double.NaN;
+        }
+
+        if (asFloat) {
+            if (m > 1 << 24 || exponent < -10 || exponent > 10) {
+                return Double.NaN;
+            }
+            float f = exponent < 0
+                    ? (float) m / FLOAT_POWERS_OF_TEN[-exponent]
+                    : (float) m * FLOAT_POWERS_OF_TEN[exponent];
+            return negative ? -f : f;
+        }
+
+        if (m > 1L << 53 || exponent < -22 || exponent > 22) {
+            return Double.NaN;
+        }
+        double d = exponent < 0
+                ? (double) m / DOUBLE_POWERS_OF_TEN[-exponent]
+                : (double) m * DOUBLE_POWERS_OF_TEN[exponent];
+        return negative ? -d : d;
+    }
+
+    /**
+     * Parses an integer of at most 18 digits without creating an intermediate string.
+     *
+     * @return null if the text has to go through the general parser.
+     */
+    private static BigInteger parseSmallInteger(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char ch = s.charAt(i);
+        if (ch == '-' || ch == '+') {
+            negative = ch == '-';
+            i++;
+        }
+        if (i == end || end - i > 18) {
+            return null;
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            ch = s.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return null;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return BigInteger.valueOf(negative ? -value : value);
+    }
+
+    /**
+     * Parses a plain decimal whose unscaled value fits in a {@code long}, without creating an intermediate string.
+     * <p>
+     * The result is the same as {@code new BigDecimal(s)} for the range: "-1.50" has the unscaled value -150 and scale
+     * 2. Exponents, more than 18 significant digits and malformed input are left to the caller.
+     *
+     * @return null if the text has to go through the general parser.
+     */
+    private static BigDecimal parseSmallDecimal(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char ch = s.charAt(i);
+        if (ch == '-' || ch == '+') {
+            negative = ch == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < end; i++) {
+            ch = s.charAt(i);
+            if (ch == '.' && !seenPoint) {
+                seenPoint = true;
+                continue;
+            }
+            if (ch < '0' || ch > '9') {
+                return null;
+            }
+            seenDigit = true;
+            if (unscaled != 0 || ch != '0') {
+                // leading zeros don't count
+                if (++digits > 18) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (ch - '0');
+            }
+            if (seenPoint) {
+                scale++;
+            }
+        }
+        if (!seenDigit) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * @return the index of the first non-whitespace character at or after {@code i}, or {@code end}.
+     */
+    private static int skipWhiteSpace(CharSequence text, int i, int end) {
+        while (i < end && WhiteSpaceProcessor.isWhiteSpace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
     @Override
     public boolean parseBoolean(String lexicalXSDBoolean) {
         return _parseBoolean(lexicalXSDBoolean);
@@ -380,6 +648,11 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
             throw new IllegalArgumentException("input is empty");
         }
 
+        QName cached = QNameCache.getParsed(text, start, end, nsc);
+        if (cached != null) {
+            return cached;
+        }
+
         String uri;
         String localPart;
         String prefix;
@@ -408,7 +681,9 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
             }
         }
 
-        return new QName(uri, localPart, prefix);
+        QName qname = new QName(uri, localPart, prefix);
+        QNameCache.putParsed(text, start, end, qname);
+        return qname;
     }
 
     @Override
@@ -418,7 +693,22 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
 
     public static GregorianCalendar _parseDateTime(CharSequence s) {
         String val = WhiteSpaceProcessor.trim(s).toString();
-        return datatypeFactory.newXMLGregorianCalendar(val).toGregorianCalendar();
+        return parseCalendar(val);
+    }
+
+    /**
+     * Parses the common {@code xs:dateTime}, {@code xs:date} and {@code xs:time} forms directly into a
+     * {@linkplain GregorianCalendar}.
+     * <p>
+     * Anything the fast parser does not recognize (including invalid input) goes through {@linkplain DatatypeFactory},
+     * so the result and the error reporting stay the same as before.
+     */
+    private static GregorianCalendar parseCalendar(String val) {
+        GregorianCalendar cal = CalendarParser.parse(val);
+        if (cal == null) {
+            cal = datatypeFactory.newXMLGregorianCalendar(val).toGregorianCalendar();
+        }
+        return cal;
     }
 
     @Override
@@ -438,13 +728,23 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         return _parseBase64Binary(lexicalXSDBase64Binary);
     }
 
+    @Override
+    public int parseBase64Binary(CharSequence lexicalXSDBase64Binary, ByteBuffer dst) {
+        return _parseBase64Binary(lexicalXSDBase64Binary, dst);
+    }
+
     @Override
     public byte[] parseHexBinary(String s) {
+        return _parseHexBinary(s);
+    }
+
+    public static byte[] _parseHexBinary(String s) {
         final int len = s.length();
 
         // "111" is not a valid hex encoding.
         if (len % 2 != 0) {
-            throw new IllegalArgumentException("hexBinary needs to be even-length: " + s);
+            // the text can be a huge blob, so it is not included in the message
+            throw new IllegalArgumentException("hexBinary needs to be even-length: " + len + " characters");
         }
 
         byte[] out = new byte[len / 2];
@@ -452,27 +752,44 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         for (int i = 0; i < len; i += 2) {
             int h = hexToBin(s.charAt(i));
             int l = hexToBin(s.charAt(i + 1));
-            if (h == -1 || l == -1) {
-                throw new IllegalArgumentException("contains illegal character for hexBinary: " + s);
+            if ((h | l) < 0) {
+                throw illegalHexCharacter(s, h < 0 ? i : i + 1);
             }
 
-            out[i / 2] = (byte) (h * 16 + l);
+            out[i / 2] = (byte) ((h << 4) | l);
         }
 
         return out;
     }
 
-    private static int hexToBin(char ch) {
-        if ('0' <= ch && ch <= '9') {
-            return ch - '0';
-        }
-        if ('A' <= ch && ch <= 'F') {
-            return ch - 'A' + 10;
+    private static IllegalArgumentException illegalHexCharacter(CharSequence s, int index) {
+        return new IllegalArgumentException("contains illegal character for hexBinary: '" + s.charAt(index)
+                + "' at index " + index);
+    }
+
+    /**
+     * Maps the characters up to 255 to their hex digit value, -1 for characters that are not hex digits.
+     */
+    private static final byte[] hexDecodeMap = initHexDecodeMap();
+
+    private static byte[] initHexDecodeMap() {
+        byte[] map = new byte[256];
+        Arrays.fill(map, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            map['0' + i] = (byte) i;
         }
-        if ('a' <= ch && ch <= 'f') {
-            return ch - 'a' + 10;
+        for (int i = 0; i < 6; i++) {
+            map['A' + i] = (byte) (10 + i);
+            map['a' + i] = (byte) (10 + i);
         }
-        return -1;
+        return map;
+    }
+
+    /**
+     * @return the value of the hex digit, or -1 if {@code ch} is not one.
+     */
+    static int hexToBin(char ch) {
+        return ch < 256 ? hexDecodeMap[ch] : -1;
     }
 
     private static final char[] hexCode = "0123456789ABCDEF".toCharArray();
@@ -482,12 +799,25 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         if (null == data) {
             throw new IllegalArgumentException("data is null");
         }
-        StringBuilder r = new StringBuilder(data.length * 2);
-        for (byte b : data) {
-            r.append(hexCode[(b >> 4) & 0xF]);
-            r.append(hexCode[(b & 0xF)]);
+        char[] r = new char[data.length * 2];
+        _printHexBinary(data, 0, data.length, r, 0);
+        return new String(r);
+    }
+
+    /**
+     * Encodes a byte array into a char array by doing hexBinary encoding.
+     * <p>
+     * The caller must supply a big enough buffer, two characters per byte.
+     *
+     * @return the value of {@code ptr+(len*2)}.
+     */
+    static int _printHexBinary(byte[] input, int offset, int len, char[] out, int ptr) {
+        for (int i = offset, end = offset + len; i < end; i++) {
+            int b = input[i];
+            out[ptr++] = hexCode[(b >> 4) & 0xF];
+            out[ptr++] = hexCode[b & 0xF];
         }
-        return r.toString();
+        return ptr;
     }
 
     @Override
@@ -507,7 +837,7 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
 
     @Override
     public Calendar parseTime(String lexicalXSDTime) {
-        return datatypeFactory.newXMLGregorianCalendar(lexicalXSDTime).toGregorianCalendar();
+        return parseCalendar(lexicalXSDTime);
     }
 
     @Override
@@ -520,7 +850,7 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
 
     @Override
     public Calendar parseDate(String lexicalXSDDate) {
-        return datatypeFactory.newXMLGregorianCalendar(lexicalXSDDate).toGregorianCalendar();
+        return parseCalendar(lexicalXSDDate);
     }
 
     @Override
@@ -574,6 +904,11 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         if (null == val) {
             throw new IllegalArgumentException("val is null");
         }
+        int scale = val.scale();
+        if (scale == 0 || (scale > 0 && val.precision() - scale > -6)) {
+            // toString() is plain for these and, unlike toPlainString(), cached in the instance
+            return val.toString();
+        }
         return val.toPlainString();
     }
 
@@ -592,9 +927,20 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         if (v == Double.NEGATIVE_INFINITY) {
             return "-INF";
         }
+        if (isSmallIntegral(v)) {
+            return Long.toString((long) v).concat(".0");
+        }
         return String.valueOf(v);
     }
 
+    /**
+     * Whole numbers below 10^7 are printed by {@linkplain Double#toString(double)} as the integer followed by ".0",
+     * which can be produced without the general floating point formatting. Negative zero is excluded.
+     */
+    private static boolean isSmallIntegral(double v) {
+        return v == (long) v && v > -1e7 && v < 1e7 && (v != 0 || Double.doubleToRawLongBits(v) == 0);
+    }
+
     @Override
     public String printQName(QName val, NamespaceContext nsc) {
         return _printQName(val, nsc);
@@ -609,7 +955,7 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         if (prefix == null || prefix.isEmpty()) { // be defensive
             qname = localPart;
         } else {
-            qname = prefix + ':' + localPart;
+            qname = QNameCache.printed(prefix, localPart);
         }
 
         return qname;
@@ -630,6 +976,186 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         return val;
     }
 
+    @Override
+    public int[] parseIntList(CharSequence lexicalXSDList) {
+        return _parseIntList(lexicalXSDList);
+    }
+
+    /**
+     * Parses the items of an {@code xs:list} of ints in place, without creating a {@linkplain String} per item.
+     */
+    public static int[] _parseIntList(CharSequence text) {
+        int[] values = new int[countListItems(text)];
+        int len = text.length();
+        int n = 0;
+        for (int i = skipWhiteSpace(text, 0, len); i < len; i = skipWhiteSpace(text, i, len)) {
+            int end = endOfListItem(text, i, len);
+            values[n++] = (int) parseDecimalInteger(text, i, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            i = end;
+        }
+        return values;
+    }
+
+    @Override
+    public long[] parseLongList(CharSequence lexicalXSDList) {
+        return _parseLongList(lexicalXSDList);
+    }
+
+    public static long[] _parseLongList(CharSequence text) {
+        long[] values = new long[countListItems(text)];
+        int len = text.length();
+        int n = 0;
+        for (int i = skipWhiteSpace(text, 0, len); i < len; i = skipWhiteSpace(text, i, len)) {
+            int end = endOfListItem(text, i, len);
+            values[n++] = parseDecimalInteger(text, i, end, Long.MIN_VALUE, Long.MAX_VALUE);
+            i = end;
+        }
+        return values;
+    }
+
+    @Override
+    public double[] parseDoubleList(CharSequence lexicalXSDList) {
+        return _parseDoubleList(lexicalXSDList);
+    }
+
+    public static double[] _parseDoubleList(CharSequence text) {
+        double[] values = new double[countListItems(text)];
+        int len = text.length();
+        int n = 0;
+        for (int i = skipWhiteSpace(text, 0, len); i < len; i = skipWhiteSpace(text, i, len)) {
+            int end = endOfListItem(text, i, len);
+            values[n++] = _parseDouble(text, i, end);
+            i = end;
+        }
+        return values;
+    }
+
+    @Override
+    public void printIntList(int[] val, Appendable out) throws IOException {
+        if (null == val) {
+            throw new IllegalArgumentException("val is null");
+        }
+        printList(val.length, (buf, i) -> buf.append(val[i]), out);
+    }
+
+    @Override
+    public void printLongList(long[] val, Appendable out) throws IOException {
+        if (null == val) {
+            throw new IllegalArgumentException("val is null");
+        }
+        printList(val.length, (buf, i) -> buf.append(val[i]), out);
+    }
+
+    @Override
+    public void printDoubleList(double[] val, Appendable out) throws IOException {
+        if (null == val) {
+            throw new IllegalArgumentException("val is null");
+        }
+        printList(val.length, (buf, i) -> {
+            double v = val[i];
+            if (Double.isNaN(v)) {
+                buf.append("NaN");
+            } else if (v == Double.POSITIVE_INFINITY) {
+                buf.append("INF");
+            } else if (v == Double.NEGATIVE_INFINITY) {
+                buf.append("-INF");
+            } else if (isSmallIntegral(v)) {
+                buf.append((long) v).append(".0");
+            } else {
+                buf.append(v);
+            }
+        }, out);
+    }
+
+    /**
+     * Appends the items of a list, separated by single spaces.
+     *
+     * @param item appends the item at the given index
+     */
+    private static void printList(int length, ObjIntConsumer<StringBuilder> item, Appendable out)
+            throws IOException {
+        StringBuilder buf = listBuffer(out);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                buf.append(' ');
+            }
+            item.accept(buf, i);
+            flushListBuffer(buf, out, false);
+        }
+        flushListBuffer(buf, out, true);
+    }
+
+    private static final int LIST_BUFFER_SIZE = 4096;
+
+    /**
+     * Values are appended to a {@linkplain StringBuilder} directly, other targets receive them in chunks.
+     */
+    private static StringBuilder listBuffer(Appendable out) {
+        return out instanceof StringBuilder ? (StringBuilder) out : new StringBuilder(LIST_BUFFER_SIZE + 32);
+    }
+
+    private static void flushListBuffer(StringBuilder buf, Appendable out, boolean last) throws IOException {
+        if (buf != out && (last || buf.length() >= LIST_BUFFER_SIZE)) {
+            out.append(buf);
+            buf.setLength(0);
+        }
+    }
+
+    /**
+     * Parses the integer in {@code text[start, end)}: an optional sign followed by ASCII digits, like
+     * {@linkplain #_parseInt(CharSequence)} accepts them, whereas {@linkplain Long#parseLong(CharSequence, int, int, int)}
+     * takes the digits of any script.
+     *
+     * @throws NumberFormatException if the range is not such an integer, or its value is not within {@code [min, max]}
+     */
+    private static long parseDecimalInteger(CharSequence text, int start, int end, long min, long max) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("Not a number: " + text.subSequence(start, end));
+        }
+        // accumulated negatively, which reaches min
+        long limit = negative ? min : -max;
+        long multmin = limit / 10;
+        long r = 0;
+        for (; i < end; i++) {
+            char ch = text.charAt(i);
+            if (ch < '0' || ch > '9' || r < multmin) {
+                throw new NumberFormatException("Not a number: " + text.subSequence(start, end));
+            }
+            r *= 10;
+            if (r < limit + (ch - '0')) {
+                throw new NumberFormatException("Not a number: " + text.subSequence(start, end));
+            }
+            r -= ch - '0';
+        }
+        return negative ? r : -r;
+    }
+
+    private static int countListItems(CharSequence text) {
+        int len = text.length();
+        int n = 0;
+        for (int i = skipWhiteSpace(text, 0, len); i < len; i = skipWhiteSpace(text, i, len)) {
+            n++;
+            i = endOfListItem(text, i, len);
+        }
+        return n;
+    }
+
+    /**
+     * @return the index of the first whitespace character at or after {@code i}, or {@code len}.
+     */
+    private static int endOfListItem(CharSequence text, int i, int len) {
+        while (i < len && !WhiteSpaceProcessor.isWhiteSpace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
     /**
      * Just return the string passed as a parameter but installs an instance of this class as the DatatypeConverter
      * implementation. Used from static fixed value initializers.
@@ -640,8 +1166,8 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
     }
 
     // base64 decoder
-    private static final byte[] decodeMap = initDecodeMap();
-    private static final byte PADDING = 127;
+    static final byte[] decodeMap = initDecodeMap();
+    static final byte PADDING = 127;
 
     private static byte[] initDecodeMap() {
         byte[] map = new byte[128];
@@ -683,13 +1209,14 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
      * If the base64 text is tightly packed with no indentation nor illegal char (like what most web services produce),
      * then the speculation of this method will be correct, so we get the performance benefit.
      */
-    private static int guessLength(String text) {
+    private static int guessLength(CharSequence text) {
         final int len = text.length();
 
         // compute the tail '=' chars
         int j = len - 1;
         for (; j >= 0; j--) {
-            byte code = decodeMap[text.charAt(j)];
+            char ch = text.charAt(j);
+            byte code = ch < 128 ? decodeMap[ch] : -1;
             if (code == PADDING) {
                 continue;
             }
@@ -725,52 +1252,164 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         }
         final int buflen = guessLength(text);
         final byte[] out = new byte[buflen];
-        int o = 0;
-
         final int len = text.length();
-        int i;
 
-        final byte[] quadruplet = new byte[4];
-        int q = 0;
+        Base64Decoder decoder = new Base64Decoder();
+        int o = decoder.decode(text, 0, len, out, 0, buflen);
+        if (decoder.next < len) {
+            // the text holds more bytes than speculated, which only happens when it is not valid base64
+            throw new IllegalArgumentException("base64 text invalid.");
+        }
 
-        // convert each quadruplet to three bytes.
-        for (i = 0; i < len; i++) {
-            char ch = text.charAt(i);
-            byte v = decodeMap[ch];
+        if (buflen == o) // speculation worked out to be OK
+        {
+            return out;
+        }
+
+        // we overestimated, so need to create a new buffer
+        byte[] nb = new byte[o];
+        System.arraycopy(out, 0, nb, 0, o);
+        return nb;
+    }
 
-            if (v != -1) {
-                quadruplet[q++] = v;
+    /**
+     * Decodes base64 text into a buffer, following the same rules as {@linkplain #_parseBase64Binary(String)}.
+     * <p>
+     * The bytes are put at absolute positions and the position of {@code dst} is only advanced once the whole text is
+     * decoded, so it stays unchanged if an exception is thrown.
+     *
+     * @return the number of bytes written to {@code dst}.
+     */
+    public static int _parseBase64Binary(CharSequence text, ByteBuffer dst) {
+        if (null == text) {
+            throw new IllegalArgumentException("base64 \"null\" text invalid.");
+        }
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int buflen = guessLength(text);
+        final int start = dst.position();
+        final int room = dst.remaining();
+        final int len = text.length();
+
+        // decode through a small block rather than an array of the whole length
+        final byte[] block = new byte[Math.min(Math.min(buflen, room), BLOCK_SIZE)];
+        Base64Decoder decoder = new Base64Decoder();
+        int o = 0;
+        while (decoder.next < len) {
+            int n = decoder.decode(text, decoder.next, len, block, 0, Math.min(block.length, Math.min(buflen, room) - o));
+            if (n == 0 && decoder.needed > 0) {
+                // the same error as _parseBase64Binary(String) reports when the speculated length is exceeded
+                if (o + decoder.needed > buflen) {
+                    throw new IllegalArgumentException("base64 text invalid.");
+                }
+                throw new BufferOverflowException();
             }
+            dst.put(start + o, block, 0, n);
+            o += n;
+        }
+
+        dst.position(start + o);
+        return o;
+    }
+
+    /**
+     * The number of bytes decoded at once by {@linkplain #_parseBase64Binary(CharSequence, ByteBuffer)}.
+     */
+    private static final int BLOCK_SIZE = 3 * 1024;
+
+    /**
+     * Decodes base64 text into bytes. This is the decoding loop of {@linkplain #_parseBase64Binary(String)},
+     * {@linkplain #_parseBase64Binary(CharSequence, ByteBuffer)} and {@linkplain Base64BinaryInputStream}.
+     *
+     * <p>
+     * Characters outside of the base64 alphabet (such as whitespace) are skipped. The text can be fed in several
+     * pieces: an incomplete quadruplet carries over to the next call, and is ignored if the text ends with it.
+     */
+    static final class Base64Decoder {
+
+        private final byte[] quadruplet = new byte[4];
+        private int q;
+
+        /**
+         * The index of the first character not decoded by the last call.
+         */
+        int next;
 
-            if (q == 4) {
+        /**
+         * The number of bytes of the quadruplet that did not fit into the output of the last call, or 0.
+         */
+        int needed;
 
-                // quadruplet is now filled.
+        /**
+         * Decodes the characters of {@code text} from {@code start} to {@code end} into {@code out} from {@code o},
+         * stopping before a quadruplet whose bytes would go past {@code outEnd}.
+         *
+         * @return the index in {@code out} after the last byte written.
+         */
+        int decode(CharSequence text, int start, int end, byte[] out, int o, int outEnd) {
+            int i = start;
+            needed = 0;
+            while (i < end) {
+                // fast path: decode whole quadruplets of plain base64 characters at once, which covers tightly packed
+                // text and each line of MIME text. Whitespace, padding and illegal characters are taken one by one
+                // below, and the fast path resumes at the next quadruplet boundary.
+                if (q == 0) {
+                    for (; i + 4 <= end && o + 3 <= outEnd; i += 4) {
+                        char c0 = text.charAt(i);
+                        char c1 = text.charAt(i + 1);
+                        char c2 = text.charAt(i + 2);
+                        char c3 = text.charAt(i + 3);
+                        if ((c0 | c1 | c2 | c3) >= 128) {
+                            break;
+                        }
+                        int v0 = decodeMap[c0];
+                        int v1 = decodeMap[c1];
+                        int v2 = decodeMap[c2];
+                        int v3 = decodeMap[c3];
+                        // -1 and PADDING both have bits above the low six set
+                        if (((v0 | v1 | v2 | v3) & ~0x3F) != 0) {
+                            break;
+                        }
+                        int bits = (v0 << 18) | (v1 << 12) | (v2 << 6) | v3;
+                        out[o++] = (byte) (bits >> 16);
+                        out[o++] = (byte) (bits >> 8);
+                        out[o++] = (byte) bits;
+                    }
+                    if (i == end) {
+                        break;
+                    }
+                }
+
+                char ch = text.charAt(i);
+                byte v = ch < 128 ? decodeMap[ch] : -1;
+                if (v == -1 || q < 3) {
+                    if (v != -1) {
+                        quadruplet[q++] = v;
+                    }
+                    i++;
+                    continue;
+                }
+
+                // the quadruplet is now filled: convert it to up to three bytes.
+                int n = 1 + (quadruplet[2] != PADDING ? 1 : 0) + (v != PADDING ? 1 : 0);
+                if (o + n > outEnd) {
+                    needed = n;
+                    break;
+                }
                 out[o++] = (byte) ((quadruplet[0] << 2) | (quadruplet[1] >> 4));
                 if (quadruplet[2] != PADDING) {
-                    if (buflen == o) {
-                        throw new IllegalArgumentException("base64 text invalid.");
-                    }
                     out[o++] = (byte) ((quadruplet[1] << 4) | (quadruplet[2] >> 2));
                 }
-                if (quadruplet[3] != PADDING) {
-                    if (buflen == o) {
-                        throw new IllegalArgumentException("base64 text invalid.");
-                    }
-                    out[o++] = (byte) ((quadruplet[2] << 6) | (quadruplet[3]));
+                if (v != PADDING) {
+                    out[o++] = (byte) ((quadruplet[2] << 6) | v);
                 }
                 q = 0;
+                i++;
             }
+            next = i;
+            return o;
         }
-
-        if (buflen == o) // speculation worked out to be OK
-        {
-            return out;
-        }
-
-        // we overestimated, so need to create a new buffer
-        byte[] nb = new byte[o];
-        System.arraycopy(out, 0, nb, 0, o);
-        return nb;
     }
 
     private static final char[] encodeMap = initEncodeMap();
@@ -828,14 +1467,12 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         int remaining = len;
         int i;
         for (i = offset; remaining >= 3; remaining -= 3, i += 3) {
-            buf[ptr++] = encode(input[i] >> 2);
-            buf[ptr++] = encode(
-                    ((input[i] & 0x3) << 4)
-                            | ((input[i + 1] >> 4) & 0xF));
-            buf[ptr++] = encode(
-                    ((input[i + 1] & 0xF) << 2)
-                            | ((input[i + 2] >> 6) & 0x3));
-            buf[ptr++] = encode(input[i + 2] & 0x3F);
+            // the three bytes as one 24 bit group, split into four 6 bit indices
+            int bits = ((input[i] & 0xFF) << 16) | ((input[i + 1] & 0xFF) << 8) | (input[i + 2] & 0xFF);
+            buf[ptr++] = encodeMap[bits >>> 18];
+            buf[ptr++] = encodeMap[(bits >>> 12) & 0x3F];
+            buf[ptr++] = encodeMap[(bits >>> 6) & 0x3F];
+            buf[ptr++] = encodeMap[bits & 0x3F];
         }
         // encode when exactly 1 element (left) to encode
         if (remaining == 1) {
@@ -868,14 +1505,11 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         int remaining = len;
         int i;
         for (i = offset; remaining >= 3; remaining -= 3, i += 3) {
-            buf[ptr++] = encodeByte(input[i] >> 2);
-            buf[ptr++] = encodeByte(
-                    ((input[i] & 0x3) << 4) |
-                            ((input[i + 1] >> 4) & 0xF));
-            buf[ptr++] = encodeByte(
-                    ((input[i + 1] & 0xF) << 2) |
-                            ((input[i + 2] >> 6) & 0x3));
-            buf[ptr++] = encodeByte(input[i + 2] & 0x3F);
+            int bits = ((input[i] & 0xFF) << 16) | ((input[i + 1] & 0xFF) << 8) | (input[i + 2] & 0xFF);
+            buf[ptr++] = (byte) encodeMap[bits >>> 18];
+            buf[ptr++] = (byte) encodeMap[(bits >>> 12) & 0x3F];
+            buf[ptr++] = (byte) encodeMap[(bits >>> 6) & 0x3F];
+            buf[ptr++] = (byte) encodeMap[bits & 0x3F];
         }
         // encode when exactly 1 element (left) to encode
         if (remaining == 1) {
@@ -936,6 +1570,214 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
         }
     }
 
+    /**
+     * Single pass parser for {@code [-]yyyy-MM-dd}, {@code hh:mm:ss[.sss]} and their combination with 'T', each with
+     * an optional time zone.
+     * <p>
+     * The calendar is populated exactly the way {@code XMLGregorianCalendar.toGregorianCalendar()} does it. Whenever
+     * the input falls outside of what this class handles (years beyond four digits, year zero, hour 24, leap seconds,
+     * unusual offsets, illegal text) {@linkplain #parse(CharSequence)} returns null and the caller falls back to
+     * {@linkplain DatatypeFactory}.
+     */
+    private static final class CalendarParser {
+
+        private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+        private static final int MAX_OFFSET = 14 * 60;
+
+        private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+
+        private static final int[] DAYS_IN_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+        /**
+         * Time zones for offsets from -14:00 to +14:00, indexed by {@code offset + MAX_OFFSET} in minutes.
+         */
+        private static final AtomicReferenceArray<TimeZone> zones = new AtomicReferenceArray<>(2 * MAX_OFFSET + 1);
+
+        /**
+         * @return null if the text needs to be handled by {@linkplain DatatypeFactory}.
+         */
+        static GregorianCalendar parse(CharSequence text) {
+            final int len = text.length();
+            int i = 0;
+
+            boolean hasDate = true;
+            boolean hasTime = true;
+            int year = 0;
+            int month = 0;
+            int day = 0;
+            int hour = 0;
+            int minute = 0;
+            int second = 0;
+            int millis = -1;
+
+            if (len >= 3 && text.charAt(2) == ':') {
+                hasDate = false;
+            } else {
+                boolean negative = len > 0 && text.charAt(0) == '-';
+                if (negative) {
+                    i++;
+                }
+                if (i + 10 > len) {
+                    return null;
+                }
+                year = digits(text, i, 4);
+                // a fifth year digit fails the '-' check
+                if (year <= 0 || text.charAt(i + 4) != '-') {
+                    return null;
+                }
+                month = digits(text, i + 5, 2);
+                if (month < 1 || month > 12 || text.charAt(i + 7) != '-') {
+                    return null;
+                }
+                if (negative) {
+                    year = -year;
+                }
+                day = digits(text, i + 8, 2);
+                if (day < 1 || day > maximumDayInMonth(year, month)) {
+                    return null;
+                }
+                i += 10;
+
+                hasTime = i < len && text.charAt(i) == 'T';
+                if (hasTime) {
+                    i++;
+                }
+            }
+
+            if (hasTime) {
+                if (i + 8 > len) {
+                    return null;
+                }
+                hour = digits(text, i, 2);
+                if (hour < 0 || hour > 23 || text.charAt(i + 2) != ':') {
+                    return null;
+                }
+                minute = digits(text, i + 3, 2);
+                if (minute < 0 || minute > 59 || text.charAt(i + 5) != ':') {
+                    return null;
+                }
+                second = digits(text, i + 6, 2);
+                if (second < 0 || second > 59) {
+                    return null;
+                }
+                i += 8;
+
+                if (i < len && text.charAt(i) == '.') {
+                    // fractional seconds are truncated to milliseconds
+                    int start = ++i;
+                    millis = 0;
+                    while (i < len) {
+                        char ch = text.charAt(i);
+                        if (ch < '0' || ch > '9') {
+                            break;
+                        }
+                        if (i - start < 3) {
+                            millis = millis * 10 + (ch - '0');
+                        }
+                        i++;
+                    }
+                    if (i == start) {
+                        return null;
+                    }
+                    for (int n = i - start; n < 3; n++) {
+                        millis *= 10;
+                    }
+                }
+            }
+
+            int offset = NO_OFFSET;
+            if (i < len) {
+                char ch = text.charAt(i);
+                if (ch == 'Z' && i + 1 == len) {
+                    offset = 0;
+                } else if ((ch == '+' || ch == '-') && i + 6 == len && text.charAt(i + 3) == ':') {
+                    int h = digits(text, i + 1, 2);
+                    int m = digits(text, i + 4, 2);
+                    if (h < 0 || m < 0 || m > 59) {
+                        return null;
+                    }
+                    offset = h * 60 + m;
+                    if (offset > MAX_OFFSET) {
+                        return null;
+                    }
+                    if (ch == '-') {
+                        offset = -offset;
+                    }
+                } else {
+                    return null;
+                }
+            }
+
+            GregorianCalendar cal = new GregorianCalendar(
+                    offset == NO_OFFSET ? TimeZone.getDefault() : timeZone(offset),
+                    Locale.getDefault(Locale.Category.FORMAT));
+            cal.clear();
+            cal.setGregorianChange(PURE_GREGORIAN_CHANGE);
+
+            // same order of set() calls as XMLGregorianCalendar, field resolution depends on it
+            if (hasDate) {
+                cal.set(Calendar.ERA, year < 0 ? GregorianCalendar.BC : GregorianCalendar.AD);
+                cal.set(Calendar.YEAR, Math.abs(year));
+                cal.set(Calendar.MONTH, month - 1);
+                cal.set(Calendar.DAY_OF_MONTH, day);
+            }
+            if (hasTime) {
+                cal.set(Calendar.HOUR_OF_DAY, hour);
+                cal.set(Calendar.MINUTE, minute);
+                cal.set(Calendar.SECOND, second);
+                if (millis >= 0) {
+                    cal.set(Calendar.MILLISECOND, millis);
+                }
+            }
+            return cal;
+        }
+
+        /**
+         * @return the value of {@code n} decimal digits starting at {@code i}, or -1 if there is a non-digit.
+         */
+        private static int digits(CharSequence text, int i, int n) {
+            int r = 0;
+            for (int end = i + n; i < end; i++) {
+                char ch = text.charAt(i);
+                if (ch < '0' || ch > '9') {
+                    return -1;
+                }
+                r = r * 10 + (ch - '0');
+            }
+            return r;
+        }
+
+        private static int maximumDayInMonth(int year, int month) {
+            if (month == 2 && (year % 400 == 0 || (year % 100 != 0 && year % 4 == 0))) {
+                return 29;
+            }
+            return DAYS_IN_MONTH[month];
+        }
+
+        /**
+         * Returns a time zone equivalent to the custom "GMT+h[mm]" zone {@linkplain DatatypeFactory} would use.
+         */
+        private static TimeZone timeZone(int offset) {
+            TimeZone tz = zones.get(offset + MAX_OFFSET);
+            if (tz == null) {
+                int abs = Math.abs(offset);
+                StringBuilder id = new StringBuilder(8);
+                id.append("GMT").append(offset < 0 ? '-' : '+').append(abs / 60);
+                if (abs % 60 != 0) {
+                    if (abs % 60 < 10) {
+                        id.append('0');
+                    }
+                    id.append(abs % 60);
+                }
+                tz = TimeZone.getTimeZone(id.toString());
+                zones.set(offset + MAX_OFFSET, tz);
+            }
+            // time zones are mutable and Calendar.getTimeZone() exposes them, so never hand out the cached one
+            return (TimeZone) tz.clone();
+        }
+    }
+
     private static final class CalendarFormatter {
 
         public static String doFormat(String format, Calendar cal) throws IllegalArgumentException {
@@ -1043,6 +1885,19 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
             }
         }
 
+        /**
+         * Preformatted time zone specifiers of the zones seen recently, keyed on the zone ID.
+         */
+        private static final ConcurrentHashMap<String, ZoneSuffix> zoneSuffixes = new ConcurrentHashMap<>();
+
+        private static final int MAX_CACHED_ZONES = 64;
+
+        /**
+         * The class of the tzdb backed zones returned by {@linkplain TimeZone#getTimeZone(String)}. Only those have
+         * rules that are fully determined by their ID, so only those are cached.
+         */
+        private static final Class<? extends TimeZone> TZDB_ZONE = TimeZone.getTimeZone("UTC").getClass();
+
         /**
          * formats time zone specifier.
          */
@@ -1053,9 +1908,30 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
                 return;
             }
 
+            long time = cal.getTimeInMillis();
+
+            if (tz.getClass() == TZDB_ZONE) {
+                ZoneSuffix suffix = zoneSuffixes.get(tz.getID());
+                if (suffix == null || !suffix.covers(tz, time)) {
+                    suffix = ZoneSuffix.create(tz, time);
+                    if (suffix != null) {
+                        if (zoneSuffixes.size() >= MAX_CACHED_ZONES) {
+                            zoneSuffixes.clear();
+                        }
+                        zoneSuffixes.put(tz.getID(), suffix);
+                    }
+                }
+                if (suffix != null) {
+                    buf.append(suffix.text);
+                    return;
+                }
+            }
+
             // otherwise print out normally.
-            int offset = tz.getOffset(cal.getTime().getTime());
+            formatOffset(tz.getOffset(time), buf);
+        }
 
+        private static void formatOffset(int offset, StringBuilder buf) {
             if (offset == 0) {
                 buf.append('Z');
                 return;
@@ -1075,6 +1951,57 @@ final class DatatypeConverterImpl implements DatatypeConverterInterface {
             formatTwoDigits(offset % 60, buf);
         }
 
+        /**
+         * Time zone specifier of a zone, valid between two of its transitions.
+         */
+        private static final class ZoneSuffix {
+
+            private final int rawOffset;
+            private final long from;
+            private final long to;
+            private final String text;
+
+            private ZoneSuffix(int rawOffset, long from, long to, String text) {
+                this.rawOffset = rawOffset;
+                this.from = from;
+                this.to = to;
+                this.text = text;
+            }
+
+            boolean covers(TimeZone tz, long time) {
+                // the raw offset check guards against TimeZone.setRawOffset
+                return from <= time && time < to && tz.getRawOffset() == rawOffset;
+            }
+
+            /**
+             * @return null if the period around {@code time} can't be determined.
+             */
+            static ZoneSuffix create(TimeZone tz, long time) {
+                int offset = tz.getOffset(time);
+                ZoneRules rules;
+                try {
+                    rules = tz.toZoneId().getRules();
+                } catch (DateTimeException e) {
+                    return null;
+                }
+
+                Instant instant = Instant.ofEpochMilli(time);
+                if (rules.getOffset(instant).getTotalSeconds() * 1000 != offset) {
+                    return null;
+                }
+                // previousTransition is exclusive, so a time right at a transition still starts a new period
+                ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+
+                StringBuilder text = new StringBuilder(6);
+                formatOffset(offset, text);
+                return new ZoneSuffix(tz.getRawOffset(),
+                        previous == null ? Long.MIN_VALUE : previous.getInstant().toEpochMilli(),
+                        next == null ? Long.MAX_VALUE : next.getInstant().toEpochMilli(),
+                        text.toString());
+            }
+        }
+
         /**
          * formats Integer into two-character-wide string.
          */
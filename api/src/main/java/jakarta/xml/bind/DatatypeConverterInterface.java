@@ -206,6 +206,31 @@ public interface DatatypeConverterInterface {
      */
     byte[] parseBase64Binary(String lexicalXSDBase64Binary);
 
+    /**
+     * Converts the string argument into bytes written to the given buffer.
+     * <p>
+     * The bytes are written starting at the position of {@code dst}, which is advanced by the number of bytes written.
+     * No more than {@code lexicalXSDBase64Binary.length() / 4 * 3} bytes are written, so a buffer of that size, be it
+     * heap, direct or taken from a pool, is always large enough.
+     *
+     * @implSpec The default implementation calls {@linkplain #parseBase64Binary(String)} and puts the result into
+     * {@code dst}.
+     *
+     * @param lexicalXSDBase64Binary A string containing lexical representation of xsd:base64Binary.
+     * @param dst                    The buffer receiving the bytes represented by the string argument.
+     *
+     * @return The number of bytes written to {@code dst}.
+     * @throws IllegalArgumentException       if string parameter does not conform to lexical value space defined in XML
+     *                                        Schema Part 2: Datatypes for xsd:base64Binary
+     * @throws java.nio.BufferOverflowException if there is not enough room in {@code dst}; its position is not changed
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     */
+    default int parseBase64Binary(CharSequence lexicalXSDBase64Binary, java.nio.ByteBuffer dst) {
+        byte[] bytes = parseBase64Binary(lexicalXSDBase64Binary.toString());
+        dst.put(bytes);
+        return bytes.length;
+    }
+
     /**
      * Converts the string argument into an array of bytes.
      *
@@ -449,4 +474,165 @@ public interface DatatypeConverterInterface {
      * @return A string containing a lexical representation of xsd:AnySimpleType
      */
     String printAnySimpleType(String val);
+
+    /**
+     * Converts a whitespace separated list of xsd:int values, as used by {@code xs:list} types, into an array.
+     *
+     * @implSpec The default implementation splits the list on XML whitespace and calls
+     * {@linkplain #parseInt(String)} for each item.
+     *
+     * @param lexicalXSDList A string containing a lexical representation of a list of xsd:int.
+     *
+     * @return The values of the list, an empty array if the list is empty.
+     * @throws NumberFormatException {@code lexicalXSDList} contains an item that is not a valid xsd:int value.
+     */
+    default int[] parseIntList(CharSequence lexicalXSDList) {
+        String[] items = listItems(lexicalXSDList);
+        int[] values = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            values[i] = parseInt(items[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Converts a whitespace separated list of xsd:long values, as used by {@code xs:list} types, into an array.
+     *
+     * @implSpec The default implementation splits the list on XML whitespace and calls
+     * {@linkplain #parseLong(String)} for each item.
+     *
+     * @param lexicalXSDList A string containing a lexical representation of a list of xsd:long.
+     *
+     * @return The values of the list, an empty array if the list is empty.
+     * @throws NumberFormatException {@code lexicalXSDList} contains an item that is not a valid xsd:long value.
+     */
+    default long[] parseLongList(CharSequence lexicalXSDList) {
+        String[] items = listItems(lexicalXSDList);
+        long[] values = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            values[i] = parseLong(items[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Converts a whitespace separated list of xsd:double values, as used by {@code xs:list} types, into an array.
+     *
+     * @implSpec The default implementation splits the list on XML whitespace and calls
+     * {@linkplain #parseDouble(String)} for each item.
+     *
+     * @param lexicalXSDList A string containing a lexical representation of a list of xsd:double.
+     *
+     * @return The values of the list, an empty array if the list is empty.
+     * @throws NumberFormatException {@code lexicalXSDList} contains an item that is not a valid xsd:double value.
+     */
+    default double[] parseDoubleList(CharSequence lexicalXSDList) {
+        String[] items = listItems(lexicalXSDList);
+        double[] values = new double[items.length];
+        for (int i = 0; i < items.length; i++) {
+            values[i] = parseDouble(items[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Appends the lexical representation of a list of xsd:int values, separated by single spaces.
+     *
+     * @implSpec The default implementation calls {@linkplain #printInt(int)} for each value.
+     *
+     * @param val The values to print.
+     * @param out Where to append the list to.
+     *
+     * @throws IllegalArgumentException if {@code val} is null.
+     * @throws java.io.IOException      if appending to {@code out} fails.
+     */
+    default void printIntList(int[] val, Appendable out) throws java.io.IOException {
+        if (val == null) {
+            throw new IllegalArgumentException("val is null");
+        }
+        printList(val.length, i -> printInt(val[i]), out);
+    }
+
+    /**
+     * Appends the lexical representation of a list of xsd:long values, separated by single spaces.
+     *
+     * @implSpec The default implementation calls {@linkplain #printLong(long)} for each value.
+     *
+     * @param val The values to print.
+     * @param out Where to append the list to.
+     *
+     * @throws IllegalArgumentException if {@code val} is null.
+     * @throws java.io.IOException      if appending to {@code out} fails.
+     */
+    default void printLongList(long[] val, Appendable out) throws java.io.IOException {
+        if (val == null) {
+            throw new IllegalArgumentException("val is null");
+        }
+        printList(val.length, i -> printLong(val[i]), out);
+    }
+
+    /**
+     * Appends the lexical representation of a list of xsd:double values, separated by single spaces.
+     *
+     * @implSpec The default implementation calls {@linkplain #printDouble(double)} for each value.
+     *
+     * @param val The values to print.
+     * @param out Where to append the list to.
+     *
+     * @throws IllegalArgumentException if {@code val} is null.
+     * @throws java.io.IOException      if appending to {@code out} fails.
+     */
+    default void printDoubleList(double[] val, Appendable out) throws java.io.IOException {
+        if (val == null) {
+            throw new IllegalArgumentException("val is null");
+        }
+        printList(val.length, i -> printDouble(val[i]), out);
+    }
+
+    /**
+     * Appends the items of a list, separated by single spaces.
+     *
+     * @param item prints the item at the given index
+     */
+    private static void printList(int length, java.util.function.IntFunction<String> item, Appendable out)
+            throws java.io.IOException {
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            out.append(item.apply(i));
+        }
+    }
+
+    /**
+     * Splits a list on XML whitespace. The items are collapsed in place in a single copy of the text, then cut out of
+     * it; the default parsers need a {@linkplain String} per item anyway, since that is what the single value parsers
+     * take.
+     */
+    private static String[] listItems(CharSequence lexicalXSDList) {
+        char[] buf = lexicalXSDList.toString().toCharArray();
+        int len = jakarta.xml.bind.internal.WhiteSpaceProcessor.collapse(buf, 0, buf.length);
+        if (len == 0) {
+            return new String[0];
+        }
+
+        // items are now separated by exactly one space
+        int count = 1;
+        for (int i = 0; i < len; i++) {
+            if (buf[i] == ' ') {
+                count++;
+            }
+        }
+        String[] items = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = start;
+            while (end < len && buf[end] != ' ') {
+                end++;
+            }
+            items[i] = new String(buf, start, end - start);
+            start = end + 1;
+        }
+        return items;
+    }
 }
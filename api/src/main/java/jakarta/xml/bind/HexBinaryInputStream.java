@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import jakarta.xml.bind.internal.WhiteSpaceProcessor;
+
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * {@linkplain InputStream} that decodes xsd:hexBinary text read from a {@linkplain Reader}.
+ *
+ * <p>
+ * XML whitespace anywhere in the text is skipped. Any other character that is not a hex digit, or an odd number of
+ * digits, makes {@linkplain #read(byte[], int, int)} throw a {@linkplain CharConversionException}. Only a fixed size
+ * character buffer is held, regardless of the length of the text.
+ */
+final class HexBinaryInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final Reader in;
+
+    private final char[] chars = new char[BUFFER_SIZE];
+    private int charPos;
+    private int charLimit;
+
+    /**
+     * Number of characters consumed before {@linkplain #chars}, for error messages.
+     */
+    private long consumed;
+
+    /**
+     * The value of the first digit of an incomplete pair, or -1.
+     */
+    private int high = -1;
+
+    private boolean eof;
+
+    /**
+     * Scratch buffer of {@linkplain #read()}.
+     */
+    private final byte[] single = new byte[1];
+
+    HexBinaryInputStream(Reader in) {
+        if (in == null) {
+            throw new IllegalArgumentException("reader is null");
+        }
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        int o = off;
+        final int end = off + len;
+
+        while (o < end) {
+            if (charPos == charLimit) {
+                // don't block for more text once something can be returned
+                if (o > off || !fill()) {
+                    break;
+                }
+            }
+
+            char ch = chars[charPos++];
+            int v = DatatypeConverterImpl.hexToBin(ch);
+            if (v < 0) {
+                if (WhiteSpaceProcessor.isWhiteSpace(ch)) {
+                    continue;
+                }
+                throw new CharConversionException("contains illegal character for hexBinary: '" + ch
+                        + "' at index " + (consumed + charPos - 1));
+            }
+            if (high < 0) {
+                high = v;
+            } else {
+                b[o++] = (byte) ((high << 4) | v);
+                high = -1;
+            }
+        }
+
+        if (o == off && eof) {
+            if (high >= 0) {
+                high = -1;
+                throw new CharConversionException("hexBinary needs to be even-length");
+            }
+            return -1;
+        }
+        return o - off;
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int n;
+        do {
+            n = in.read(chars, 0, chars.length);
+        } while (n == 0);
+        if (n < 0) {
+            eof = true;
+            return false;
+        }
+        consumed += charLimit;
+        charPos = 0;
+        charLimit = n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * {@linkplain OutputStream} that writes the xsd:hexBinary encoding of the bytes written to it to a
+ * {@linkplain Writer}.
+ *
+ * <p>
+ * The output is the same as {@linkplain DatatypeConverterImpl#printHexBinary(byte[])}. Every byte is written through
+ * right away, so no data is held back until {@linkplain #close()}.
+ */
+final class HexBinaryOutputStream extends OutputStream {
+
+    /**
+     * Number of bytes encoded in one go.
+     */
+    private static final int CHUNK_SIZE = 2048;
+
+    private final Writer out;
+
+    private final char[] buf = new char[CHUNK_SIZE * 2];
+
+    private boolean closed;
+
+    /**
+     * Scratch buffer of {@linkplain #write(int)}.
+     */
+    private final byte[] single = new byte[1];
+
+    HexBinaryOutputStream(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("writer is null");
+        }
+        this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+
+        while (len > 0) {
+            int n = Math.min(len, CHUNK_SIZE);
+            out.write(buf, 0, DatatypeConverterImpl._printHexBinary(b, off, n, buf, 0));
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        out.flush();
+    }
+
+    /**
+     * Closes the underlying writer.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.close();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package jakarta.xml.bind;
 
 import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.internal.AsyncSupport;
 
 import java.io.File;
 import java.io.IOException;
@@ -28,6 +29,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.concurrent.CompletionStage;
 
 import javax.xml.namespace.QName;
 import javax.xml.transform.Result;
@@ -156,6 +158,30 @@ public final class JAXB {
         }
     }
 
+    /**
+     * Reads in a Java object tree from the given XML input without blocking the calling thread.
+     *
+     * <p>
+     * The resource is read and unmarshalled as by {@linkplain #unmarshal(URL, Class)} on a thread of its own, a
+     * virtual thread when the runtime supports them, so that waiting on the connection does not hold a platform
+     * thread. The returned stage completes exceptionally with a {@linkplain DataBindingException} if the operation
+     * fails.
+     *
+     * @param <T>  the type of the object tree
+     * @param xml  The resource pointed by the URL is read in its entirety.
+     * @param type The Java class to bind the XML to, as by {@linkplain #unmarshal(URL, Class)}.
+     *
+     * @return the stage completed with the Java object tree once it is read.
+     *
+     * @throws IllegalArgumentException If {@code xml} is null.
+     */
+    public static <T> CompletionStage<T> unmarshalAsync(URL xml, Class<T> type) {
+        if (xml == null) {
+            throw new IllegalArgumentException("no XML is given");
+        }
+        return AsyncSupport.submit(AsyncSupport.defaultExecutor(), () -> unmarshal(xml, type));
+    }
+
     /**
      * Reads in a Java object tree from the given XML input.
      *
@@ -301,6 +327,33 @@ public final class JAXB {
         _marshal(jaxbObject, xml);
     }
 
+    /**
+     * Writes a Java object tree to XML and sends it to the specified location without blocking the calling thread.
+     *
+     * <p>
+     * The object is marshalled and sent as by {@linkplain #marshal(Object, URL)} on a thread of its own, a virtual
+     * thread when the runtime supports them, so that waiting on the connection does not hold a platform thread. The
+     * returned stage completes exceptionally with a {@linkplain DataBindingException} if the operation fails.
+     *
+     * @param jaxbObject The Java object to be marshalled into XML. See {@linkplain #marshal(Object, URL)}. This
+     *                   parameter must not be null.
+     * @param xml        The XML will be {@linkplain URLConnection#getOutputStream() sent} to the resource pointed by
+     *                   this URL.
+     *
+     * @return the stage completed with null once the XML is sent.
+     *
+     * @throws IllegalArgumentException If {@code xml} is null.
+     */
+    public static CompletionStage<Void> marshalAsync(Object jaxbObject, URL xml) {
+        if (xml == null) {
+            throw new IllegalArgumentException("no XML is given");
+        }
+        return AsyncSupport.submit(AsyncSupport.defaultExecutor(), () -> {
+            _marshal(jaxbObject, xml);
+            return null;
+        });
+    }
+
     /**
      * Writes a Java object tree to XML and store it to the specified location.
      *
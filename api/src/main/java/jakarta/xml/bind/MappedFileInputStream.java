@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import jakarta.xml.bind.internal.ByteBufferInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@linkplain ByteBufferInputStream} over a memory-mapped file.
+ *
+ * <p>
+ * The file is mapped one window at a time, so files larger than the 2 GB limit of a single
+ * {@linkplain java.nio.MappedByteBuffer} can be read too. Closing the stream closes the file; the mapped windows are
+ * released when they are garbage collected.
+ */
+final class MappedFileInputStream extends ByteBufferInputStream {
+
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private long mapped;
+
+    MappedFileInputStream(Path path) throws IOException {
+        super(ByteBuffer.allocate(0));
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    protected ByteBuffer nextBuffer() throws IOException {
+        if (mapped >= size) {
+            return null;
+        }
+        long length = Math.min(WINDOW_SIZE, size - mapped);
+        ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+        mapped += length;
+        return window;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
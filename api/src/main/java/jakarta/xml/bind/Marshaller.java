@@ -19,6 +19,7 @@ package jakarta.xml.bind;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.adapters.XmlAdapter;
 import jakarta.xml.bind.attachment.AttachmentMarshaller;
+import jakarta.xml.bind.internal.AsyncSupport;
 
 import java.io.File;
 
@@ -444,6 +445,135 @@ public interface Marshaller {
     void marshal(Object jaxbElement, javax.xml.stream.XMLEventWriter writer)
             throws JAXBException;
 
+    /**
+     * Marshal the content tree rooted at {@code jaxbElement} into a {@linkplain java.nio.ByteBuffer}.
+     * <p>
+     * The XML is written from the position of {@code buffer} on. If it does not fit before the limit, a buffer of the
+     * same kind (heap or direct) with at least twice the capacity is allocated, the bytes before the position are
+     * copied into it and marshalling continues in the new buffer; this repeats as often as needed. The returned buffer
+     * is positioned just after the XML, so {@linkplain java.nio.ByteBuffer#flip()} makes it ready to be sent.
+     *
+     * @implSpec The default implementation marshals to an {@linkplain java.io.OutputStream} writing into the buffer
+     * with {@linkplain #marshal(Object, java.io.OutputStream)}.
+     *
+     * @param jaxbElement The root of content tree to be marshalled.
+     * @param buffer      XML will be written into this buffer, or into a larger one replacing it.
+     *
+     * @return {@code buffer}, or the larger buffer that replaced it
+     * @throws JAXBException                        If any unexpected problem occurs during the marshalling.
+     * @throws MarshalException                     If the {@linkplain ValidationEventHandler ValidationEventHandler}
+     *                                              returns false from its {@code handleEvent} method or the
+     *                                              {@code Marshaller} is unable to marshal {@code jaxbElement} (or any
+     *                                              object reachable from {@code jaxbElement}). See
+     *                                              {@linkplain ##elementMarshalling Marshalling a Jakarta XML Binding
+     *                                              element}.
+     * @throws java.nio.ReadOnlyBufferException     If {@code buffer} is read-only
+     * @throws IllegalArgumentException             If any of the method parameters are null
+     */
+    default java.nio.ByteBuffer marshal(Object jaxbElement, java.nio.ByteBuffer buffer) throws JAXBException {
+        if (jaxbElement == null || buffer == null) {
+            throw new IllegalArgumentException(
+                    Messages.format(Messages.MUST_NOT_BE_NULL, jaxbElement == null ? "jaxbElement" : "buffer"));
+        }
+        if (buffer.isReadOnly()) {
+            throw new java.nio.ReadOnlyBufferException();
+        }
+        ByteBufferOutputStream out = new ByteBufferOutputStream(buffer);
+        marshal(jaxbElement, out);
+        return out.buffer();
+    }
+
+    /**
+     * Marshal the content tree rooted at {@code jaxbElement} into a {@linkplain java.nio.channels.WritableByteChannel}.
+     * <p>
+     * The XML is written through a fixed size direct buffer, which the channel can write without copying it first.
+     * All of the XML has been written to the channel when this method returns. The channel is not closed, and it must
+     * be in blocking mode.
+     *
+     * @implSpec The default implementation marshals to an {@linkplain java.io.OutputStream} writing to the channel
+     * with {@linkplain #marshal(Object, java.io.OutputStream)}.
+     *
+     * @param jaxbElement The root of content tree to be marshalled.
+     * @param channel     XML will be written to this channel.
+     *
+     * @throws JAXBException            If any unexpected problem occurs during the marshalling, including I/O errors
+     *                                  of the channel.
+     * @throws MarshalException         If the {@linkplain ValidationEventHandler ValidationEventHandler} returns false
+     *                                  from its {@code handleEvent} method or the {@code Marshaller} is unable to
+     *                                  marshal {@code jaxbElement} (or any object reachable from {@code jaxbElement}).
+     *                                  See
+     *                                  {@linkplain ##elementMarshalling Marshalling a Jakarta XML Binding element}.
+     * @throws IllegalArgumentException If any of the method parameters are null
+     */
+    default void marshal(Object jaxbElement, java.nio.channels.WritableByteChannel channel) throws JAXBException {
+        if (jaxbElement == null || channel == null) {
+            throw new IllegalArgumentException(
+                    Messages.format(Messages.MUST_NOT_BE_NULL, jaxbElement == null ? "jaxbElement" : "channel"));
+        }
+        ByteBufferOutputStream out = new ByteBufferOutputStream(channel);
+        marshal(jaxbElement, out);
+        try {
+            out.flush();
+        } catch (java.io.IOException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Marshal the content tree rooted at {@code jaxbElement} into the specified {@code javax.xml.transform.Result}
+     * without blocking the calling thread.
+     * <p>
+     * The marshalling runs on a thread of its own, a virtual thread when the runtime supports them, so that waiting on
+     * the I/O of the result does not hold a platform thread. The returned stage completes when all of the XML has been
+     * written, or exceptionally with the {@linkplain JAXBException} or runtime exception that made the marshalling
+     * fail. The {@code Marshaller} must not be used by the caller until the stage has completed.
+     *
+     * @implSpec The default implementation calls {@linkplain #marshalAsync(Object, javax.xml.transform.Result,
+     * java.util.concurrent.Executor)} with the default executor.
+     *
+     * @param jaxbElement The root of content tree to be marshalled.
+     * @param result      XML will be sent to this Result
+     *
+     * @return a stage completed when the marshalling is over
+     * @throws IllegalArgumentException If any of the method parameters are null
+     * @see #marshal(Object, javax.xml.transform.Result)
+     */
+    default java.util.concurrent.CompletionStage<Void> marshalAsync(Object jaxbElement,
+            javax.xml.transform.Result result) {
+        return marshalAsync(jaxbElement, result, AsyncSupport.defaultExecutor());
+    }
+
+    /**
+     * Marshal the content tree rooted at {@code jaxbElement} into the specified {@code javax.xml.transform.Result} on
+     * the specified executor.
+     * <p>
+     * The returned stage completes when all of the XML has been written, or exceptionally with the
+     * {@linkplain JAXBException} or runtime exception that made the marshalling fail. The {@code Marshaller} must not be
+     * used by the caller until the stage has completed.
+     *
+     * @implSpec The default implementation runs {@linkplain #marshal(Object, javax.xml.transform.Result)} on the
+     * executor.
+     *
+     * @param jaxbElement The root of content tree to be marshalled.
+     * @param result      XML will be sent to this Result
+     * @param executor    the executor running the marshalling
+     *
+     * @return a stage completed when the marshalling is over
+     * @throws IllegalArgumentException If any of the method parameters are null
+     * @throws java.util.concurrent.RejectedExecutionException If the executor does not accept the marshalling
+     */
+    default java.util.concurrent.CompletionStage<Void> marshalAsync(Object jaxbElement,
+            javax.xml.transform.Result result, java.util.concurrent.Executor executor) {
+        if (jaxbElement == null || result == null || executor == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL,
+                    jaxbElement == null ? "jaxbElement" : result == null ? "result" : "executor"));
+        }
+        return AsyncSupport.submit(executor, () -> {
+            marshal(jaxbElement, result);
+            return null;
+        });
+    }
+
     /**
      * Get a DOM tree view of the content tree(Optional).
      * <p>
@@ -84,4 +84,7 @@ class Messages {
 
     static final String JAXB_CLASSES_NOT_OPEN = // 1 arg
             "JAXBClasses.notOpen";
+
+    static final String MUST_NOT_BE_NULL = // 1 arg
+            "Shared.MustNotBeNull";
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+
+/**
+ * Bounded caches of parsed and printed {@code xs:QName} values, so that values repeated throughout a document (such as
+ * {@code xsi:type}) resolve to shared instances.
+ *
+ * <p>
+ * Both caches are direct mapped tables of immutable entries: a lookup is an array read and a comparison, and a miss
+ * simply replaces the slot. Threads racing on a slot may overwrite each other's entries, which only costs a later
+ * miss; the entries themselves are safely published through their final fields.
+ */
+final class QNameCache {
+
+    private static final int SIZE = 512;
+    private static final int MASK = SIZE - 1;
+
+    private static final Parsed[] parsed = new Parsed[SIZE];
+    private static final Printed[] printed = new Printed[SIZE];
+
+    private QNameCache() {
+    }
+
+    /**
+     * Looks up the QName for the text in the given range.
+     * <p>
+     * An entry is only used if the prefix it was created with is still bound to the same namespace URI in
+     * {@code nsc}.
+     *
+     * @return null if the text is not cached or its prefix is now bound differently.
+     */
+    static QName getParsed(CharSequence text, int start, int end, NamespaceContext nsc) {
+        Parsed entry = parsed[hash(text, start, end) & MASK];
+        if (entry == null || !entry.matches(text, start, end)) {
+            return null;
+        }
+        String uri = nsc.getNamespaceURI(entry.qname.getPrefix());
+        return entry.qname.getNamespaceURI().equals(uri == null ? "" : uri) ? entry.qname : null;
+    }
+
+    static void putParsed(CharSequence text, int start, int end, QName qname) {
+        parsed[hash(text, start, end) & MASK] = new Parsed(text.subSequence(start, end).toString(), qname);
+    }
+
+    /**
+     * Returns {@code prefix + ':' + localPart}, creating the string only if it is not cached.
+     */
+    static String printed(String prefix, String localPart) {
+        int slot = (prefix.hashCode() * 31 + localPart.hashCode()) & MASK;
+        Printed entry = printed[slot];
+        if (entry != null && entry.localPart.equals(localPart) && entry.prefix.equals(prefix)) {
+            return entry.text;
+        }
+        String text = prefix + ':' + localPart;
+        printed[slot] = new Printed(prefix, localPart, text);
+        return text;
+    }
+
+    /**
+     * Same as {@linkplain String#hashCode()} of the range, without creating the string.
+     */
+    private static int hash(CharSequence text, int start, int end) {
+        if (start == 0 && end == text.length() && text instanceof String) {
+            return text.hashCode();
+        }
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return h;
+    }
+
+    private static final class Parsed {
+
+        private final String text;
+        private final QName qname;
+
+        Parsed(String text, QName qname) {
+            this.text = text;
+            this.qname = qname;
+        }
+
+        boolean matches(CharSequence s, int start, int end) {
+            int len = end - start;
+            if (text.length() != len) {
+                return false;
+            }
+            if (s instanceof String) {
+                return text.regionMatches(0, (String) s, start, len);
+            }
+            for (int i = 0; i < len; i++) {
+                if (text.charAt(i) != s.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Printed {
+
+        private final String prefix;
+        private final String localPart;
+        private final String text;
+
+        Printed(String prefix, String localPart, String text) {
+            this.prefix = prefix;
+            this.localPart = localPart;
+            this.text = text;
+        }
+    }
+}
@@ -18,6 +18,8 @@ package jakarta.xml.bind;
 
 import jakarta.xml.bind.annotation.adapters.XmlAdapter;
 import jakarta.xml.bind.attachment.AttachmentUnmarshaller;
+import jakarta.xml.bind.internal.AsyncSupport;
+import jakarta.xml.bind.internal.ByteBufferInputStream;
 
 import java.io.Reader;
 
@@ -392,6 +394,196 @@ public interface Unmarshaller {
      */
     Object unmarshal(java.io.InputStream is) throws JAXBException;
 
+    /**
+     * Unmarshal XML data from the remaining bytes of the specified buffer and return the resulting content tree.
+     * Validation event location information may be incomplete when using this form of the unmarshal API.
+     *
+     * <p>
+     * The bytes between the position and the limit of the buffer are parsed; the position and limit themselves are
+     * not changed. Heap and direct buffers, including {@linkplain java.nio.MappedByteBuffer mapped} ones, are read in
+     * place without copying them to an intermediate array first.
+     *
+     * <p>
+     * Implements {@linkplain ##unmarshalGlobal Unmarshal Global Root Element}.
+     *
+     * @implSpec The default implementation calls {@linkplain #unmarshal(java.io.InputStream)} with a stream reading
+     * from a {@linkplain java.nio.ByteBuffer#duplicate() duplicate} of the buffer.
+     *
+     * @param buffer the buffer to unmarshal XML data from
+     *
+     * @return the newly created root object of the java content tree
+     * @throws JAXBException            If any unexpected errors occur while unmarshalling
+     * @throws UnmarshalException       If the {@linkplain ValidationEventHandler ValidationEventHandler} returns false
+     *                                  from its {@code handleEvent} method or the {@code Unmarshaller} is unable to
+     *                                  perform the XML to Java binding. See
+     *                                  {@linkplain ##unmarshalEx Unmarshalling XML Data}.
+     * @throws IllegalArgumentException If the buffer parameter is null
+     */
+    default Object unmarshal(java.nio.ByteBuffer buffer) throws JAXBException {
+        if (buffer == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "buffer"));
+        }
+        return unmarshal(new ByteBufferInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * Unmarshal XML data from the specified file and return the resulting content tree.
+     *
+     * <p>
+     * The file is read either through {@linkplain java.nio.file.Files#newInputStream(java.nio.file.Path,
+     * java.nio.file.OpenOption...) Files.newInputStream}, into the parser's own buffer, or, if {@code memoryMapped} is
+     * true, by mapping it into memory, which avoids copying the file through the kernel for large files. Files larger than 2 GB are mapped in several parts. The URI of the file is used as the system ID,
+     * so that relative references in the document are resolved against the file. The file is closed before this
+     * method returns.
+     *
+     * <p>
+     * Implements {@linkplain ##unmarshalGlobal Unmarshal Global Root Element}.
+     *
+     * @implSpec The default implementation calls {@linkplain #unmarshal(org.xml.sax.InputSource)} with an input source
+     * reading from {@linkplain java.nio.file.Files#newInputStream(java.nio.file.Path, java.nio.file.OpenOption...)
+     * Files.newInputStream}, or from the mapped file.
+     *
+     * @param path         the file to unmarshal XML data from
+     * @param memoryMapped whether to map the file into memory instead of reading it
+     *
+     * @return the newly created root object of the java content tree
+     * @throws JAXBException            If any unexpected errors occur while unmarshalling, including I/O errors reading
+     *                                  the file
+     * @throws UnmarshalException       If the {@linkplain ValidationEventHandler ValidationEventHandler} returns false
+     *                                  from its {@code handleEvent} method or the {@code Unmarshaller} is unable to
+     *                                  perform the XML to Java binding. See
+     *                                  {@linkplain ##unmarshalEx Unmarshalling XML Data}.
+     * @throws IllegalArgumentException If the path parameter is null
+     */
+    default Object unmarshal(java.nio.file.Path path, boolean memoryMapped) throws JAXBException {
+        if (path == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "path"));
+        }
+        try (java.io.InputStream in = memoryMapped
+                ? new MappedFileInputStream(path)
+                : java.nio.file.Files.newInputStream(path)) {
+            org.xml.sax.InputSource source = new org.xml.sax.InputSource(in);
+            source.setSystemId(path.toUri().toString());
+            return unmarshal(source);
+        } catch (java.io.IOException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Unmarshal each of the specified streams and return the resulting content trees, along with the errors of the
+     * documents that could not be unmarshalled.
+     *
+     * <p>
+     * This is meant for many small documents: an implementation can keep its parser and handler configured across the
+     * whole batch instead of setting them up for every document. A document that fails to unmarshal does not stop the
+     * batch; its error is reported in the result instead, and so is a null element of {@code documents}. The streams
+     * are not closed.
+     *
+     * <p>
+     * Implements {@linkplain ##unmarshalGlobal Unmarshal Global Root Element} for each document.
+     *
+     * @implSpec The default implementation calls {@linkplain #unmarshal(java.io.InputStream)} for each stream.
+     *
+     * @param documents the streams to unmarshal XML data from, in order
+     *
+     * @return the content trees and errors, in the order of {@code documents}
+     * @throws IllegalArgumentException If the documents parameter is null
+     */
+    default BatchResult unmarshalAll(Iterable<? extends java.io.InputStream> documents) {
+        if (documents == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "documents"));
+        }
+        BatchResult.Builder batch = new BatchResult.Builder();
+        for (java.io.InputStream document : documents) {
+            try {
+                if (document == null) {
+                    throw new JAXBException(Messages.format(Messages.MUST_NOT_BE_NULL, "document"));
+                }
+                batch.add(unmarshal(document));
+            } catch (JAXBException e) {
+                batch.fail(e);
+            }
+        }
+        return batch.build();
+    }
+
+    /**
+     * Unmarshal the remaining bytes of each of the specified buffers and return the resulting content trees, along
+     * with the errors of the documents that could not be unmarshalled.
+     *
+     * <p>
+     * This is the {@linkplain java.nio.ByteBuffer} counterpart of {@linkplain #unmarshalAll(Iterable)}, for documents
+     * that were received into buffers. The positions and limits of the buffers are not changed.
+     *
+     * @implSpec The default implementation calls {@linkplain #unmarshalAll(Iterable)} with streams reading the
+     * buffers, so that it shares the setup of an implementation overriding that method.
+     *
+     * @param documents the buffers to unmarshal XML data from, in order
+     *
+     * @return the content trees and errors, in the order of {@code documents}
+     * @throws IllegalArgumentException If the documents parameter is null
+     */
+    default BatchResult unmarshalAll(java.util.List<? extends java.nio.ByteBuffer> documents) {
+        if (documents == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "documents"));
+        }
+        java.util.List<java.io.InputStream> streams = new java.util.ArrayList<>(documents.size());
+        for (java.nio.ByteBuffer document : documents) {
+            streams.add(document == null ? null : new ByteBufferInputStream(document.duplicate()));
+        }
+        return unmarshalAll(streams);
+    }
+
+    /**
+     * Unmarshal XML data from the specified XML Source without blocking the calling thread.
+     *
+     * <p>
+     * The unmarshalling runs on a thread of its own, a virtual thread when the runtime supports them, so that waiting
+     * on the I/O of the source, such as a remote {@linkplain javax.xml.transform.stream.StreamSource#getSystemId()
+     * system id}, does not hold a platform thread. The returned stage completes with the newly created root object of
+     * the java content tree, or exceptionally with the {@linkplain JAXBException} or runtime exception that made the
+     * unmarshalling fail. The {@code Unmarshaller} must not be used by the caller until the stage has completed.
+     *
+     * @implSpec The default implementation calls {@linkplain #unmarshalAsync(javax.xml.transform.Source,
+     * java.util.concurrent.Executor)} with the default executor.
+     *
+     * @param source the XML Source to unmarshal XML data from
+     *
+     * @return a stage completed with the content tree
+     * @throws IllegalArgumentException If the Source parameter is null
+     * @see #unmarshal(javax.xml.transform.Source)
+     */
+    default java.util.concurrent.CompletionStage<Object> unmarshalAsync(javax.xml.transform.Source source) {
+        return unmarshalAsync(source, AsyncSupport.defaultExecutor());
+    }
+
+    /**
+     * Unmarshal XML data from the specified XML Source on the specified executor.
+     *
+     * <p>
+     * The returned stage completes with the newly created root object of the java content tree, or exceptionally with
+     * the {@linkplain JAXBException} or runtime exception that made the unmarshalling fail. The {@code Unmarshaller}
+     * must not be used by the caller until the stage has completed.
+     *
+     * @implSpec The default implementation runs {@linkplain #unmarshal(javax.xml.transform.Source)} on the executor.
+     *
+     * @param source   the XML Source to unmarshal XML data from
+     * @param executor the executor running the unmarshalling
+     *
+     * @return a stage completed with the content tree
+     * @throws IllegalArgumentException If any of the method parameters are null
+     * @throws java.util.concurrent.RejectedExecutionException If the executor does not accept the unmarshalling
+     */
+    default java.util.concurrent.CompletionStage<Object> unmarshalAsync(javax.xml.transform.Source source,
+            java.util.concurrent.Executor executor) {
+        if (source == null || executor == null) {
+            throw new IllegalArgumentException(
+                    Messages.format(Messages.MUST_NOT_BE_NULL, source == null ? "source" : "executor"));
+        }
+        return AsyncSupport.submit(executor, () -> unmarshal(source));
+    }
+
     /**
      * Unmarshal XML data from the specified Reader and return the resulting content tree.  Validation event location
      * information may be incomplete when using this form of the unmarshal API, because a Reader does not provide the
@@ -886,6 +1078,118 @@ public interface Unmarshaller {
         }
     }
 
+    /**
+     * The outcome of unmarshalling a batch of documents with {@linkplain #unmarshalAll(Iterable)} or
+     * {@linkplain #unmarshalAll(java.util.List)}.
+     *
+     * <p>
+     * For each document, in the order they were given, there is either a content tree or the error that prevented
+     * unmarshalling it.
+     */
+    final class BatchResult {
+
+        private final Object[] results;
+        private final JAXBException[] errors;
+
+        /**
+         * Creates the outcome of a batch.
+         *
+         * @param results the content trees, null for the documents that failed
+         * @param errors  the errors, null for the documents that succeeded
+         * @throws IllegalArgumentException If the arrays are null or of different length
+         */
+        public BatchResult(Object[] results, JAXBException[] errors) {
+            if (results == null || errors == null || results.length != errors.length) {
+                throw new IllegalArgumentException("results and errors must be of the same length");
+            }
+            this.results = results.clone();
+            this.errors = errors.clone();
+        }
+
+        /**
+         * Collects the outcomes of the documents of a batch, in order.
+         */
+        public static final class Builder {
+
+            private final java.util.List<Object> results = new java.util.ArrayList<>();
+            private final java.util.List<JAXBException> errors = new java.util.ArrayList<>();
+
+            /**
+             * Creates an empty builder.
+             */
+            public Builder() {
+            }
+
+            /**
+             * Adds a document that was unmarshalled.
+             *
+             * @param result the content tree of the document
+             * @return this builder
+             */
+            public Builder add(Object result) {
+                results.add(result);
+                errors.add(null);
+                return this;
+            }
+
+            /**
+             * Adds a document that failed.
+             *
+             * @param error the error that prevented unmarshalling the document
+             * @return this builder
+             */
+            public Builder fail(JAXBException error) {
+                results.add(null);
+                errors.add(error);
+                return this;
+            }
+
+            /**
+             * @return the outcome of the documents added so far
+             */
+            public BatchResult build() {
+                return new BatchResult(results.toArray(), errors.toArray(new JAXBException[0]));
+            }
+        }
+
+        /**
+         * @return the number of documents in the batch
+         */
+        public int size() {
+            return results.length;
+        }
+
+        /**
+         * @param index the index of the document in the batch
+         * @return the content tree of the document, or {@code null} if it failed
+         * @throws IndexOutOfBoundsException If {@code index} is not a valid index
+         */
+        public Object getResult(int index) {
+            return results[index];
+        }
+
+        /**
+         * @param index the index of the document in the batch
+         * @return the error of the document, or {@code null} if it was unmarshalled
+         * @throws IndexOutOfBoundsException If {@code index} is not a valid index
+         */
+        public JAXBException getError(int index) {
+            return errors[index];
+        }
+
+        /**
+         * @return true if any document of the batch failed
+         */
+        public boolean hasErrors() {
+            for (JAXBException error : errors) {
+                if (error != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * <p>
      * Register unmarshal event callback {@linkplain Listener} with this {@linkplain Unmarshaller}.
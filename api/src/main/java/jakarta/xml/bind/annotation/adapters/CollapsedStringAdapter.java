@@ -14,6 +14,8 @@
 
 package jakarta.xml.bind.annotation.adapters;
 
+import jakarta.xml.bind.internal.WhiteSpaceProcessor;
+
 /**
  * Built-in {@linkplain XmlAdapter} to handle {@code xs:token} and its derived types.
  *
@@ -23,7 +25,19 @@ package jakarta.xml.bind.annotation.adapters;
  */
 public class CollapsedStringAdapter extends XmlAdapter<String, String> {
 
+    private final StringInterner interner;
+
     public CollapsedStringAdapter() {
+        this(null);
+    }
+
+    /**
+     * Creates an adapter that returns shared instances for equal collapsed values.
+     *
+     * @param interner the interner to deduplicate unmarshalled values through, or null to not deduplicate them.
+     */
+    public CollapsedStringAdapter(StringInterner interner) {
+        this.interner = interner;
     }
 
     /**
@@ -36,61 +50,13 @@ public class CollapsedStringAdapter extends XmlAdapter<String, String> {
             return null;        // be defensive
         }
 
-        int len = text.length();
-
-        // most of the texts are already in the collapsed form.
-        // so look for the first whitespace in the hope that we will
-        // never see it.
-        int s = 0;
-        while (s < len) {
-            if (isWhiteSpace(text.charAt(s))) {
-                break;
-            }
-            s++;
-        }
-        if (s == len)
-        // the input happens to be already collapsed.
-        {
-            return text;
-        }
-
-        // we now know that the input contains spaces.
-        // let's sit down and do the collapsing normally.
-
-        StringBuilder result = new StringBuilder(len /*allocate enough size to avoid re-allocation*/);
-
-        if (s != 0) {
-            for (int i = 0; i < s; i++)
-                result.append(text.charAt(i));
-            result.append(' ');
-        }
-
-        boolean inStripMode = true;
-        for (int i = s + 1; i < len; i++) {
-            char ch = text.charAt(i);
-            boolean b = isWhiteSpace(ch);
-            if (inStripMode && b) {
-                continue; // skip this character
-            }
-
-            inStripMode = b;
-            if (inStripMode) {
-                result.append(' ');
-            } else {
-                result.append(ch);
-            }
+        if (interner == null || text.length() > StringInterner.MAX_LENGTH) {
+            return WhiteSpaceProcessor.collapse(text);
         }
-
-        // remove trailing whitespaces
-        len = result.length();
-        if (len > 0 && result.charAt(len - 1) == ' ') {
-            result.setLength(len - 1);
-        }
-        // whitespaces are already collapsed,
-        // so all we have to do is to remove the last one character
-        // if it's a whitespace.
-
-        return result.toString();
+        // collapse a copy in place and look it up as it is, so that a repeated value creates no string
+        char[] buf = StringInterner.scratch();
+        text.getChars(0, text.length(), buf, 0);
+        return interner.intern(buf, 0, WhiteSpaceProcessor.collapse(buf, 0, text.length()));
     }
 
     /**
@@ -107,13 +73,6 @@ public class CollapsedStringAdapter extends XmlAdapter<String, String> {
      * returns true if the specified char is a white space character.
      */
     protected static boolean isWhiteSpace(char ch) {
-        // most of the characters are non-control characters.
-        // so check that first to quickly return false for most of the cases.
-        if (ch > 0x20) {
-            return false;
-        }
-
-        // other than we have to do four comparisons.
-        return ch == 0x9 || ch == 0xA || ch == 0xD || ch == 0x20;
+        return WhiteSpaceProcessor.isWhiteSpace(ch);
     }
 }
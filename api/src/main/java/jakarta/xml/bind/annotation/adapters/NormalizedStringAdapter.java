@@ -15,6 +15,8 @@
 
 package jakarta.xml.bind.annotation.adapters;
 
+import jakarta.xml.bind.internal.WhiteSpaceProcessor;
+
 /**
  * {@linkplain XmlAdapter} to handle {@code xs:normalizedString}.
  *
@@ -24,7 +26,19 @@ package jakarta.xml.bind.annotation.adapters;
  */
 public final class NormalizedStringAdapter extends XmlAdapter<String, String> {
 
+    private final StringInterner interner;
+
     public NormalizedStringAdapter() {
+        this(null);
+    }
+
+    /**
+     * Creates an adapter that returns shared instances for equal normalized values.
+     *
+     * @param interner the interner to deduplicate unmarshalled values through, or null to not deduplicate them.
+     */
+    public NormalizedStringAdapter(StringInterner interner) {
+        this.interner = interner;
     }
 
     /**
@@ -37,30 +51,18 @@ public final class NormalizedStringAdapter extends XmlAdapter<String, String> {
             return null;    // be defensive
         }
 
-        int i = text.length() - 1;
-
-        // look for the first whitespace char.
-        while (i >= 0 && !isWhiteSpaceExceptSpace(text.charAt(i))) {
-            i--;
+        if (interner == null || text.length() > StringInterner.MAX_LENGTH) {
+            return WhiteSpaceProcessor.replace(text);
         }
-
-        if (i < 0)
-        // no such whitespace. replace(text)==text.
-        {
-            return text;
-        }
-
-        // we now know that we need to modify the text.
-        // allocate a char array to do it.
-        char[] buf = text.toCharArray();
-
-        buf[i--] = ' ';
-        for (; i >= 0; i--)
+        // replace in a copy and look it up as it is, so that a repeated value creates no string
+        char[] buf = StringInterner.scratch();
+        text.getChars(0, text.length(), buf, 0);
+        for (int i = 0; i < text.length(); i++) {
             if (isWhiteSpaceExceptSpace(buf[i])) {
                 buf[i] = ' ';
             }
-
-        return new String(buf);
+        }
+        return interner.intern(buf, 0, text.length());
     }
 
     /**
@@ -75,13 +77,6 @@ public final class NormalizedStringAdapter extends XmlAdapter<String, String> {
      * Returns true if the specified char is a white space character but not 0x20.
      */
     protected static boolean isWhiteSpaceExceptSpace(char ch) {
-        // most of the characters are non-control characters.
-        // so check that first to quickly return false for most of the cases.
-        if (ch >= 0x20) {
-            return false;
-        }
-
-        // other than we have to do four comparisons.
-        return ch == 0x9 || ch == 0xA || ch == 0xD;
+        return WhiteSpaceProcessor.isWhiteSpaceExceptSpace(ch);
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.annotation.adapters;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache that maps equal character sequences to one shared {@linkplain String} instance.
+ *
+ * <p>
+ * Documents often repeat the same short values (codes, flags, enumeration-like tokens) many times. Passing an
+ * interner to {@linkplain CollapsedStringAdapter#CollapsedStringAdapter(StringInterner)} or
+ * {@linkplain NormalizedStringAdapter#NormalizedStringAdapter(StringInterner)} makes all occurrences of such a value in
+ * the unmarshalled object graphs share a single instance, which reduces the retained heap of long-lived graphs. Such
+ * an adapter is installed with {@linkplain jakarta.xml.bind.Unmarshaller#setAdapter(XmlAdapter)}.
+ *
+ * <p>
+ * Lookups compare the characters in place, so a hit does not allocate. The cache holds a fixed number of entries: a
+ * new value replaces whatever value occupied its slot, so values that are rarely repeated are not kept for long.
+ * Values longer than {@value #MAX_LENGTH} characters are never cached.
+ *
+ * <p>
+ * The hit and miss counts can be used to decide whether interning pays off for a given workload.
+ */
+public final class StringInterner {
+
+    /**
+     * The length of the longest value that is cached.
+     */
+    public static final int MAX_LENGTH = 128;
+
+    /** the buffer the adapters normalize a value into, to look it up without creating a string */
+    private static final ThreadLocal<char[]> scratch = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private final String[] table;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an interner.
+     *
+     * @param capacity the number of values to keep, rounded up to a power of two.
+     * @throws IllegalArgumentException if {@code capacity} is not positive or larger than 2<sup>30</sup>
+     */
+    public StringInterner(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        table = new String[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+    }
+
+    /**
+     * Returns the cached instance equal to {@code text}, caching {@code text} itself if there is none.
+     *
+     * @param text the value, may be null.
+     * @return the shared instance, or {@code text} if it is null or too long to be cached.
+     */
+    public String intern(String text) {
+        if (text == null || text.length() > MAX_LENGTH) {
+            return text;
+        }
+        int slot = slot(text.hashCode());
+        String cached = table[slot];
+        if (text.equals(cached)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        table[slot] = text;
+        return text;
+    }
+
+    /**
+     * Returns the cached instance equal to the given characters, creating and caching a new string if there is none.
+     *
+     * @param chars  the characters of the value.
+     * @param offset the index of the first character.
+     * @param count  the number of characters.
+     * @return the shared instance.
+     * @throws IndexOutOfBoundsException if the range is outside of {@code chars}
+     */
+    public String intern(char[] chars, int offset, int count) {
+        if (count > MAX_LENGTH) {
+            return new String(chars, offset, count);
+        }
+        int h = 0;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            h = 31 * h + chars[i];
+        }
+        int slot = slot(h);
+        String cached = table[slot];
+        if (cached != null && matches(cached, chars, offset, count)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String text = new String(chars, offset, count);
+        table[slot] = text;
+        return text;
+    }
+
+    /**
+     * @return a buffer of {@value #MAX_LENGTH} characters owned by the current thread.
+     */
+    static char[] scratch() {
+        return scratch.get();
+    }
+
+    /**
+     * @return the number of lookups that returned a cached instance.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups of cacheable values that did not find a cached instance.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of hits to cacheable lookups, or 0 if there were none.
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (table.length - 1);
+    }
+
+    private static boolean matches(String cached, char[] chars, int offset, int count) {
+        if (cached.length() != count) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (cached.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
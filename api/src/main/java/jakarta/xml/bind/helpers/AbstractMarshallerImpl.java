@@ -21,13 +21,14 @@ import jakarta.xml.bind.ValidationEventHandler;
 import jakarta.xml.bind.annotation.adapters.XmlAdapter;
 import jakarta.xml.bind.attachment.AttachmentMarshaller;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLEventWriter;
 import javax.xml.stream.XMLStreamWriter;
@@ -68,6 +69,11 @@ public abstract class AbstractMarshallerImpl implements Marshaller {
      */
     private String encoding = "UTF-8";
 
+    /**
+     * the resolution of {@linkplain #encoding}, or null if it is not supported.
+     */
+    private JavaEncoding javaEncoding = lookupJavaEncoding(encoding);
+
     /**
      * store the value of the schemaLocation property.
      */
@@ -106,8 +112,10 @@ public abstract class AbstractMarshallerImpl implements Marshaller {
     public void marshal(Object jaxbElement, File output) throws JAXBException {
         checkNotNull(jaxbElement, "jaxbElement", output, "output");
         try {
-            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(output))) {
-                marshal(jaxbElement, new StreamResult(os));
+            // written through the channel's buffer, without another stream buffer in between
+            try (FileChannel channel = FileChannel.open(output.toPath(),
+                    StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                marshal(jaxbElement, channel);
             }
         } catch (IOException e) {
             throw new JAXBException(e);
@@ -167,6 +175,22 @@ public abstract class AbstractMarshallerImpl implements Marshaller {
      */
     protected void setEncoding(String encoding) {
         this.encoding = encoding;
+        this.javaEncoding = encoding == null ? null : lookupJavaEncoding(encoding);
+    }
+
+    /**
+     * Convenience method for getting the {@linkplain Charset} of the current output encoding.
+     * <p>
+     * The encoding is resolved the same way as by {@linkplain #getJavaEncoding(String)}, once when it is set.
+     *
+     * @return the charset of the current encoding, UTF-8 if it hasn't been set.
+     * @throws UnsupportedEncodingException If this implementation couldn't find a charset for the current encoding.
+     */
+    protected Charset getCharset() throws UnsupportedEncodingException {
+        if (javaEncoding == null) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+        return javaEncoding.charset;
     }
 
     /**
@@ -290,20 +314,11 @@ public abstract class AbstractMarshallerImpl implements Marshaller {
      * @throws UnsupportedEncodingException If this implementation couldn't find the Java encoding name.
      */
     protected String getJavaEncoding(String encoding) throws UnsupportedEncodingException {
-        try {
-            "1".getBytes(encoding);
-            return encoding;
-        } catch (UnsupportedEncodingException e) {
-            // try known alias
-            for (int i = 0; i < aliases.length; i += 2) {
-                if (encoding.equals(aliases[i])) {
-                    "1".getBytes(aliases[i + 1]);
-                    return aliases[i + 1];
-                }
-            }
-
+        JavaEncoding e = encoding.equals(this.encoding) ? javaEncoding : lookupJavaEncoding(encoding);
+        if (e == null) {
             throw new UnsupportedEncodingException(encoding);
         }
+        return e.name;
         /* J2SE1.4 feature
         try {
             this.encoding = Charset.forName( _encoding );
@@ -313,6 +328,64 @@ public abstract class AbstractMarshallerImpl implements Marshaller {
          */
     }
 
+    /**
+     * Resolved encodings, shared by all marshallers. Unsupported encodings are not cached, so that the map only grows
+     * with the (few) encodings that are actually used.
+     */
+    private static final ConcurrentHashMap<String, JavaEncoding> javaEncodings = new ConcurrentHashMap<>();
+
+    /**
+     * @return the resolved encoding, or null if neither the name nor its known alias is supported.
+     */
+    private static JavaEncoding lookupJavaEncoding(String encoding) {
+        JavaEncoding e = javaEncodings.get(encoding);
+        if (e == null) {
+            e = resolveJavaEncoding(encoding);
+            if (e != null) {
+                javaEncodings.putIfAbsent(encoding, e);
+            }
+        }
+        return e;
+    }
+
+    private static JavaEncoding resolveJavaEncoding(String encoding) {
+        Charset charset = charsetForName(encoding);
+        if (charset != null) {
+            return new JavaEncoding(encoding, charset);
+        }
+        // try known alias
+        for (int i = 0; i < aliases.length; i += 2) {
+            if (encoding.equals(aliases[i])) {
+                charset = charsetForName(aliases[i + 1]);
+                return charset == null ? null : new JavaEncoding(aliases[i + 1], charset);
+            }
+        }
+        return null;
+    }
+
+    private static Charset charsetForName(String name) {
+        try {
+            return Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            // IllegalCharsetNameException or UnsupportedCharsetException
+            return null;
+        }
+    }
+
+    /**
+     * An encoding name as understood by Java, and its charset.
+     */
+    private static final class JavaEncoding {
+
+        private final String name;
+        private final Charset charset;
+
+        JavaEncoding(String name, Charset charset) {
+            this.name = name;
+            this.charset = charset;
+        }
+    }
+
     /**
      * Default implementation of the setProperty method handles the four defined properties in Marshaller. If a provider
      * needs to handle additional properties, it should override this method in a derived class.
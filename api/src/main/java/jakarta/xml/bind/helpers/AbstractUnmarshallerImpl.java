@@ -19,6 +19,7 @@ import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.PropertyException;
 import jakarta.xml.bind.UnmarshalException;
 import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.UnmarshallerHandler;
 import jakarta.xml.bind.ValidationEventHandler;
 import jakarta.xml.bind.annotation.adapters.XmlAdapter;
 import jakarta.xml.bind.attachment.AttachmentUnmarshaller;
@@ -34,6 +35,8 @@ import java.util.Objects;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
 import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
@@ -53,8 +56,9 @@ import org.xml.sax.XMLReader;
  * This class provides a partial default implementation for the {@linkplain jakarta.xml.bind.Unmarshaller} interface.
  *
  * <p>
- * A Jakarta XML Binding Provider has to implement five methods getUnmarshallerHandler(), unmarshal(Node),
- * unmarshal(XMLReader,InputSource), unmarshal(XMLStreamReader), and unmarshal(XMLEventReader).
+ * A Jakarta XML Binding Provider has to implement three methods getUnmarshallerHandler(), unmarshal(Node), and
+ * unmarshal(XMLReader,InputSource). unmarshal(XMLStreamReader) and unmarshal(XMLEventReader) are implemented on top
+ * of getUnmarshallerHandler(); providers with a native pull parsing implementation should override them.
  *
  * @see jakarta.xml.bind.Unmarshaller
  */
@@ -78,6 +82,55 @@ public abstract class AbstractUnmarshallerImpl implements Unmarshaller {
 
     private SAXParserFactory parserFactory;
 
+    /**
+     * whether {@linkplain StreamSource}s are parsed with StAX.
+     */
+    private boolean staxForStreamSource = false;
+
+    /**
+     * Convenience method for choosing how {@linkplain #unmarshal(Source)} parses a {@linkplain StreamSource} that
+     * has an {@linkplain java.io.InputStream} or a {@linkplain Reader}.
+     * <p>
+     * If true, the stream is parsed by an {@linkplain XMLStreamReader} from {@linkplain #getXMLInputFactory()} and
+     * unmarshalled with {@linkplain #unmarshal(XMLStreamReader)}. Otherwise, it is parsed by the SAX parser from
+     * {@linkplain #getXMLReader()}, which is the default.
+     *
+     * @param v whether to parse stream sources with StAX.
+     */
+    protected void setStAXForStreamSource(boolean v) {
+        staxForStreamSource = v;
+    }
+
+    /**
+     * Convenience method for getting how {@linkplain StreamSource}s are parsed.
+     *
+     * @return true if {@linkplain StreamSource}s are parsed with StAX.
+     * @see #setStAXForStreamSource(boolean)
+     */
+    protected boolean isStAXForStreamSource() {
+        return staxForStreamSource;
+    }
+
+    /**
+     * Obtains the factory of the {@linkplain XMLStreamReader}s used for {@linkplain StreamSource}s.
+     * <p>
+     * By default, this is a factory with the default configuration that is shared by all unmarshallers, since looking
+     * up and creating a factory is expensive compared to parsing a small document. Derived classes may override this
+     * method to use a differently configured factory.
+     *
+     * @return the factory, which must not be reconfigured by the caller.
+     */
+    protected XMLInputFactory getXMLInputFactory() {
+        return InputFactoryHolder.factory;
+    }
+
+    /**
+     * Creates the shared factory on first use.
+     */
+    private static final class InputFactoryHolder {
+        private static final XMLInputFactory factory = XMLInputFactory.newFactory();
+    }
+
     private SAXParserFactory getSAXParserFactory() {
         if (null == parserFactory) {
             parserFactory = SAXParserFactory.newInstance();
@@ -119,7 +172,11 @@ public abstract class AbstractUnmarshallerImpl implements Unmarshaller {
             return unmarshal((SAXSource) source);
         }
         if (source instanceof StreamSource) {
-            return unmarshal(streamSourceToInputSource((StreamSource) source));
+            StreamSource ss = (StreamSource) source;
+            if (isStAXForStreamSource() && (ss.getInputStream() != null || ss.getReader() != null)) {
+                return unmarshalWithStAX(ss);
+            }
+            return unmarshal(streamSourceToInputSource(ss));
         }
         if (source instanceof DOMSource) {
             return unmarshal(((DOMSource) source).getNode());
@@ -129,6 +186,31 @@ public abstract class AbstractUnmarshallerImpl implements Unmarshaller {
         throw new IllegalArgumentException();
     }
 
+    /**
+     * Parses the stream with a reader from {@linkplain #getXMLInputFactory()} and unmarshals it with
+     * {@linkplain #unmarshal(XMLStreamReader)}, which may be the provider's own pull parsing implementation.
+     */
+    private Object unmarshalWithStAX(StreamSource source) throws JAXBException {
+        XMLStreamReader r;
+        try {
+            r = source.getInputStream() != null
+                    ? getXMLInputFactory().createXMLStreamReader(source.getSystemId(), source.getInputStream())
+                    : getXMLInputFactory().createXMLStreamReader(source.getSystemId(), source.getReader());
+        } catch (XMLStreamException e) {
+            throw new UnmarshalException(e);
+        }
+        try {
+            return unmarshal(r);
+        } finally {
+            try {
+                // this doesn't close the underlying stream, just like the SAX path doesn't
+                r.close();
+            } catch (XMLStreamException e) {
+                // nothing left to release
+            }
+        }
+    }
+
     // use the client specified XMLReader contained in the SAXSource.
     private Object unmarshal(SAXSource source) throws JAXBException {
 
@@ -210,6 +292,37 @@ public abstract class AbstractUnmarshallerImpl implements Unmarshaller {
         return unmarshal(isrc);
     }
 
+    /**
+     * Unmarshals the documents through {@linkplain #unmarshal(XMLReader, InputSource)}, one call per document, with the
+     * {@linkplain #getXMLReader() XMLReader} looked up once for the whole batch. The reader keeps the handlers that the
+     * provider sets on it; a provider that can reuse more state from one document to the next does so in its
+     * implementation of that method.
+     */
+    @Override
+    public BatchResult unmarshalAll(Iterable<? extends java.io.InputStream> documents) {
+        if (documents == null) {
+            throw new IllegalArgumentException(
+                    Messages.format(Messages.MUST_NOT_BE_NULL, "documents"));
+        }
+
+        BatchResult.Builder batch = new BatchResult.Builder();
+        XMLReader r = null;
+        for (java.io.InputStream document : documents) {
+            try {
+                if (document == null) {
+                    throw new JAXBException(Messages.format(Messages.MUST_NOT_BE_NULL, "document"));
+                }
+                if (r == null) {
+                    r = getXMLReader();
+                }
+                batch.add(unmarshal(r, new InputSource(document)));
+            } catch (JAXBException e) {
+                batch.fail(e);
+            }
+        }
+        return batch.build();
+    }
+
     private static InputSource streamSourceToInputSource(StreamSource ss) {
         InputSource is = new InputSource();
         is.setSystemId(ss.getSystemId());
@@ -317,16 +430,55 @@ public abstract class AbstractUnmarshallerImpl implements Unmarshaller {
         throw new PropertyException(name);
     }
 
+    /**
+     * Default implementation of the StAX unmarshal method, which replays the events of the reader to
+     * {@linkplain #getUnmarshallerHandler()}. The namespace bindings that an element read from within a document
+     * inherits from its ancestors are reported to the handler around the elements that use them.
+     * <p>
+     * Providers with a native pull parsing implementation should override this method.
+     */
     @Override
     public Object unmarshal(XMLEventReader reader) throws JAXBException {
+        if (reader == null) {
+            throw new IllegalArgumentException(
+                    Messages.format(Messages.MUST_NOT_BE_NULL, "reader"));
+        }
 
-        throw new UnsupportedOperationException();
+        UnmarshallerHandler handler = getUnmarshallerHandler();
+        try {
+            StAXBridge.bridge(reader, handler);
+        } catch (XMLStreamException e) {
+            throw new UnmarshalException(e);
+        } catch (SAXException e) {
+            throw createUnmarshalException(e);
+        }
+        return handler.getResult();
     }
 
+    /**
+     * Default implementation of the StAX unmarshal method, which replays the events of the reader to
+     * {@linkplain #getUnmarshallerHandler()}. The namespace bindings that an element read from within a document
+     * inherits from its ancestors are reported to the handler around the elements that use them.
+     * <p>
+     * Providers with a native pull parsing implementation should override this method; it is also used for
+     * {@linkplain StreamSource}s when {@linkplain #isStAXForStreamSource()} is true.
+     */
     @Override
     public Object unmarshal(XMLStreamReader reader) throws JAXBException {
+        if (reader == null) {
+            throw new IllegalArgumentException(
+                    Messages.format(Messages.MUST_NOT_BE_NULL, "reader"));
+        }
 
-        throw new UnsupportedOperationException();
+        UnmarshallerHandler handler = getUnmarshallerHandler();
+        try {
+            StAXBridge.bridge(reader, handler);
+        } catch (XMLStreamException e) {
+            throw new UnmarshalException(e);
+        } catch (SAXException e) {
+            throw createUnmarshalException(e);
+        }
+        return handler.getResult();
     }
 
     @Override
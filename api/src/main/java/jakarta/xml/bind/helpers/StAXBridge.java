@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.EndElement;
+import javax.xml.stream.events.EntityDeclaration;
+import javax.xml.stream.events.EntityReference;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.ProcessingInstruction;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.LocatorImpl;
+
+/**
+ * Replays a StAX element subtree as SAX events, so that a {@linkplain ContentHandler} such as an
+ * {@linkplain jakarta.xml.bind.UnmarshallerHandler} can consume a pull parser.
+ *
+ * <p>
+ * The reader must be at a START_DOCUMENT or START_ELEMENT event. One element, with everything it contains, is reported
+ * between {@linkplain ContentHandler#startDocument()} and {@linkplain ContentHandler#endDocument()}; the reader is left
+ * at the event right after the end of that element, as required by
+ * {@linkplain jakarta.xml.bind.Unmarshaller#unmarshal(XMLStreamReader)}. Namespace declarations are reported as prefix
+ * mappings only, not as attributes, and they end in the order of declaration, like the JDK SAX parser does it by
+ * default. Entity references that the reader does not replace are reported as the characters of their replacement
+ * text.
+ *
+ * <p>
+ * An element read from within a document may use namespace bindings declared on its ancestors, for instance in an
+ * {@code xsi:type} attribute or in {@code xs:QName} content, and the handler must see them as prefix mappings before
+ * the start of the element that uses them. {@linkplain NamespaceContext} cannot list its bindings, so such a subtree is
+ * still replayed as it is read, but the bindings are looked up in the namespace context of the reader for the prefixes
+ * that the subtree uses, and mapped around the elements that use them; see {@linkplain InheritingHandler}.
+ */
+final class StAXBridge {
+
+    private StAXBridge() {
+    }
+
+    static void bridge(XMLStreamReader reader, ContentHandler handler) throws XMLStreamException, SAXException {
+        int event = reader.getEventType();
+        ReaderLocator locator = new ReaderLocator(reader::getLocation);
+        if (event == XMLStreamConstants.START_DOCUMENT) {
+            // skip the prolog
+            while (event != XMLStreamConstants.START_ELEMENT) {
+                if (event == XMLStreamConstants.END_DOCUMENT) {
+                    throw new XMLStreamException("The document has no root element", reader.getLocation());
+                }
+                event = reader.next();
+            }
+            handler.setDocumentLocator(locator);
+            handler.startDocument();
+            replay(reader, handler);
+            next(reader);
+            handler.endDocument();
+        } else if (event == XMLStreamConstants.START_ELEMENT) {
+            InheritingHandler inheriting = new InheritingHandler(handler, locator, reader::getNamespaceContext);
+            inheriting.startDocument();
+            replay(reader, inheriting);
+            next(reader);
+            inheriting.endDocument();
+        } else {
+            throw new IllegalStateException("The reader must be at a START_DOCUMENT or START_ELEMENT event");
+        }
+    }
+
+    private static void next(XMLStreamReader reader) throws XMLStreamException {
+        if (reader.hasNext()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Reports the element at which the reader is.
+     */
+    private static void replay(XMLStreamReader reader, ContentHandler handler)
+            throws XMLStreamException, SAXException {
+        AttributesImpl attributes = new AttributesImpl();
+        int event = XMLStreamConstants.START_ELEMENT;
+        int depth = 0;
+        while (true) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    depth++;
+                    QName name = reader.getName();
+                    for (int i = 0, n = reader.getNamespaceCount(); i < n; i++) {
+                        handler.startPrefixMapping(nonNull(reader.getNamespacePrefix(i)),
+                                nonNull(reader.getNamespaceURI(i)));
+                    }
+                    attributes.clear();
+                    for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+                        addAttribute(attributes, reader.getAttributeName(i), reader.getAttributeType(i),
+                                reader.getAttributeValue(i));
+                    }
+                    handler.startElement(nonNull(name.getNamespaceURI()), name.getLocalPart(), qName(name),
+                            attributes);
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    depth--;
+                    QName name = reader.getName();
+                    handler.endElement(nonNull(name.getNamespaceURI()), name.getLocalPart(), qName(name));
+                    for (int i = 0, n = reader.getNamespaceCount(); i < n; i++) {
+                        handler.endPrefixMapping(nonNull(reader.getNamespacePrefix(i)));
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA ->
+                        handler.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                case XMLStreamConstants.SPACE -> handler.ignorableWhitespace(
+                        reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                case XMLStreamConstants.ENTITY_REFERENCE -> {
+                    char[] text = replacementText(reader.getLocalName(), reader.getText(), reader.getLocation());
+                    handler.characters(text, 0, text.length);
+                }
+                case XMLStreamConstants.PROCESSING_INSTRUCTION ->
+                        handler.processingInstruction(reader.getPITarget(), reader.getPIData());
+                default -> {
+                    // comments and the like have no ContentHandler counterpart
+                }
+            }
+            if (depth == 0) {
+                break;
+            }
+            event = reader.next();
+        }
+    }
+
+    static void bridge(XMLEventReader reader, ContentHandler handler) throws XMLStreamException, SAXException {
+        XMLEvent event = reader.peek();
+        if (event == null || !(event.isStartDocument() || event.isStartElement())) {
+            throw new IllegalStateException("The reader must be at a START_DOCUMENT or START_ELEMENT event");
+        }
+        boolean withinDocument = event.isStartElement();
+        // skip the prolog
+        event = reader.nextEvent();
+        while (!event.isStartElement()) {
+            if (!reader.hasNext()) {
+                throw new XMLStreamException("The document has no root element", event.getLocation());
+            }
+            event = reader.nextEvent();
+        }
+
+        Location[] location = {event.getLocation()};
+        ReaderLocator locator = new ReaderLocator(() -> location[0]);
+        // the namespace context of each open element
+        List<NamespaceContext> contexts = new ArrayList<>();
+        if (withinDocument) {
+            InheritingHandler inheriting = new InheritingHandler(handler, locator,
+                    () -> contexts.get(contexts.size() - 1));
+            inheriting.startDocument();
+            replay(reader, event, location, contexts, inheriting);
+            inheriting.endDocument();
+        } else {
+            handler.setDocumentLocator(locator);
+            handler.startDocument();
+            replay(reader, event, location, contexts, handler);
+            handler.endDocument();
+        }
+    }
+
+    /**
+     * Reports the element starting with the specified event, keeping the current location and the namespace contexts
+     * of the open elements up to date.
+     */
+    private static void replay(XMLEventReader reader, XMLEvent event, Location[] location,
+            List<NamespaceContext> contexts, ContentHandler handler) throws XMLStreamException, SAXException {
+        AttributesImpl attributes = new AttributesImpl();
+        // the prefixes declared by each open element, for the endPrefixMapping calls
+        List<List<String>> declaredPrefixes = new ArrayList<>();
+        while (true) {
+            location[0] = event.getLocation();
+            switch (event.getEventType()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    StartElement start = event.asStartElement();
+                    List<String> prefixes = new ArrayList<>();
+                    for (Iterator<Namespace> it = start.getNamespaces(); it.hasNext(); ) {
+                        Namespace ns = it.next();
+                        prefixes.add(nonNull(ns.getPrefix()));
+                        handler.startPrefixMapping(nonNull(ns.getPrefix()), nonNull(ns.getNamespaceURI()));
+                    }
+                    declaredPrefixes.add(prefixes);
+                    attributes.clear();
+                    for (Iterator<Attribute> it = start.getAttributes(); it.hasNext(); ) {
+                        Attribute a = it.next();
+                        addAttribute(attributes, a.getName(), a.getDTDType(), a.getValue());
+                    }
+                    QName name = start.getName();
+                    contexts.add(start.getNamespaceContext());
+                    handler.startElement(nonNull(name.getNamespaceURI()), name.getLocalPart(), qName(name),
+                            attributes);
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    EndElement end = event.asEndElement();
+                    QName name = end.getName();
+                    handler.endElement(nonNull(name.getNamespaceURI()), name.getLocalPart(), qName(name));
+                    for (String prefix : declaredPrefixes.remove(declaredPrefixes.size() - 1)) {
+                        handler.endPrefixMapping(prefix);
+                    }
+                    contexts.remove(contexts.size() - 1);
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    Characters characters = event.asCharacters();
+                    char[] text = characters.getData().toCharArray();
+                    if (characters.isIgnorableWhiteSpace()) {
+                        handler.ignorableWhitespace(text, 0, text.length);
+                    } else {
+                        handler.characters(text, 0, text.length);
+                    }
+                }
+                case XMLStreamConstants.ENTITY_REFERENCE -> {
+                    EntityReference reference = (EntityReference) event;
+                    EntityDeclaration declaration = reference.getDeclaration();
+                    char[] text = replacementText(reference.getName(),
+                            declaration == null ? null : declaration.getReplacementText(), event.getLocation());
+                    handler.characters(text, 0, text.length);
+                }
+                case XMLStreamConstants.PROCESSING_INSTRUCTION -> {
+                    ProcessingInstruction pi = (ProcessingInstruction) event;
+                    handler.processingInstruction(pi.getTarget(), pi.getData());
+                }
+                default -> {
+                    // comments and the like have no ContentHandler counterpart
+                }
+            }
+            if (declaredPrefixes.isEmpty()) {
+                break;
+            }
+            event = reader.nextEvent();
+        }
+    }
+
+    /**
+     * Gets the text that replaces an entity reference the reader did not replace itself. The replacement text of an
+     * external or undeclared entity is not known, and markup in it cannot be reported as characters.
+     */
+    private static char[] replacementText(String name, String text, Location location) throws XMLStreamException {
+        if (text == null || text.indexOf('<') >= 0) {
+            throw new XMLStreamException("The entity reference &" + name + "; cannot be replaced", location);
+        }
+        return text.toCharArray();
+    }
+
+    private static void addAttribute(AttributesImpl attributes, QName name, String type, String value) {
+        attributes.addAttribute(nonNull(name.getNamespaceURI()), name.getLocalPart(), qName(name),
+                type == null ? "CDATA" : type, value);
+    }
+
+    private static String qName(QName name) {
+        String prefix = name.getPrefix();
+        return prefix == null || prefix.isEmpty() ? name.getLocalPart() : prefix + ':' + name.getLocalPart();
+    }
+
+    private static String nonNull(String s) {
+        return s == null ? "" : s;
+    }
+
+    /**
+     * Reports a subtree read from within a document within the mappings of the bindings it inherits from its ancestors,
+     * for the prefixes it uses in the names of its elements and attributes, in its attribute values and in its text.
+     * The prefixes of the values and text are those of the tokens that look like QNames.
+     *
+     * <p>
+     * The bindings are looked up in the namespace context of the event being reported, and mapped around the element
+     * that uses them, unless an open element already binds the prefix. Text comes after the start of its element, so
+     * that start is held back, with the text that follows it, until the first child, processing instruction or end of
+     * the element; the prefixes of the text that comes later, in mixed content, are not mapped. Nothing else is
+     * buffered.
+     */
+    private static final class InheritingHandler extends DefaultHandler {
+
+        private final ContentHandler handler;
+        private final ReaderLocator locator;
+        private final Supplier<NamespaceContext> context;
+        /** the prefixes bound by each open element, by its declarations or as inherited */
+        private final List<List<String>> bound = new ArrayList<>();
+        /** the inherited bindings mapped around each open element, as prefix and namespace URI pairs */
+        private final List<List<String[]>> inherited = new ArrayList<>();
+        /** the inherited bindings of the element that just ended, mapped until its own mappings have ended */
+        private List<String[]> ending;
+        /** the prefixes declared by the next element */
+        private List<String> declared = new ArrayList<>();
+        /** the events held back, from the declarations of the last element started, with their locations */
+        private final List<Call> held = new ArrayList<>();
+        private final List<Locator> locations = new ArrayList<>();
+        /** whether the start of the last element is held back */
+        private boolean holding;
+        /** the start of the token of text being read, while it may still be a prefix */
+        private final StringBuilder prefix = new StringBuilder();
+        private boolean inPrefix = true;
+
+        InheritingHandler(ContentHandler handler, ReaderLocator locator, Supplier<NamespaceContext> context) {
+            this.handler = handler;
+            this.locator = locator;
+            this.context = context;
+        }
+
+        @Override
+        public void startDocument() throws SAXException {
+            handler.setDocumentLocator(locator);
+            handler.startDocument();
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            endInherited();
+            handler.endDocument();
+        }
+
+        @Override
+        public void startPrefixMapping(String prefix, String uri) throws SAXException {
+            release();
+            declared.add(prefix);
+            hold(h -> h.startPrefixMapping(prefix, uri));
+        }
+
+        @Override
+        public void endPrefixMapping(String prefix) throws SAXException {
+            handler.endPrefixMapping(prefix);
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            release();
+            bound.add(declared);
+            declared = new ArrayList<>();
+            inherited.add(new ArrayList<>());
+            endToken();
+            use("");
+            use(prefixOf(qName));
+            for (int i = 0; i < attributes.getLength(); i++) {
+                use(prefixOf(attributes.getQName(i)));
+                String value = attributes.getValue(i);
+                scan(value.toCharArray(), 0, value.length());
+                endToken();
+            }
+            Attributes copy = new AttributesImpl(attributes);
+            hold(h -> h.startElement(uri, localName, qName, copy));
+            holding = true;
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            release();
+            handler.endElement(uri, localName, qName);
+            bound.remove(bound.size() - 1);
+            ending = inherited.remove(inherited.size() - 1);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            if (holding) {
+                scan(ch, start, length);
+                char[] copy = Arrays.copyOfRange(ch, start, start + length);
+                hold(h -> h.characters(copy, 0, copy.length));
+            } else {
+                endInherited();
+                handler.characters(ch, start, length);
+            }
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            if (holding) {
+                char[] copy = Arrays.copyOfRange(ch, start, start + length);
+                hold(h -> h.ignorableWhitespace(copy, 0, copy.length));
+            } else {
+                endInherited();
+                handler.ignorableWhitespace(ch, start, length);
+            }
+        }
+
+        @Override
+        public void processingInstruction(String target, String data) throws SAXException {
+            release();
+            handler.processingInstruction(target, data);
+        }
+
+        private void hold(Call call) {
+            held.add(call);
+            locations.add(new LocatorImpl(locator));
+        }
+
+        /**
+         * Reports the events held back, after the inherited mappings of the element they start.
+         */
+        private void release() throws SAXException {
+            endInherited();
+            if (!holding) {
+                return;
+            }
+            holding = false;
+            try {
+                locator.replayed = locations.get(0);
+                for (String[] binding : inherited.get(inherited.size() - 1)) {
+                    handler.startPrefixMapping(binding[0], binding[1]);
+                }
+                for (int i = 0; i < held.size(); i++) {
+                    locator.replayed = locations.get(i);
+                    held.get(i).replay(handler);
+                }
+            } finally {
+                locator.replayed = null;
+                held.clear();
+                locations.clear();
+            }
+        }
+
+        private void endInherited() throws SAXException {
+            if (ending != null) {
+                for (String[] binding : ending) {
+                    handler.endPrefixMapping(binding[0]);
+                }
+                ending = null;
+            }
+        }
+
+        /**
+         * Finds the prefixes of the tokens that look like QNames, which may span several calls within an element.
+         */
+        private void scan(char[] ch, int start, int length) {
+            for (int i = start; i < start + length; i++) {
+                char c = ch[i];
+                if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                    endToken();
+                } else if (!inPrefix) {
+                    continue;
+                } else if (c == ':') {
+                    if (prefix.length() > 0) {
+                        use(prefix.toString());
+                    }
+                    prefix.setLength(0);
+                    inPrefix = false;
+                } else if (Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.') {
+                    prefix.append(c);
+                } else {
+                    // not a prefix
+                    prefix.setLength(0);
+                    inPrefix = false;
+                }
+            }
+        }
+
+        private void endToken() {
+            prefix.setLength(0);
+            inPrefix = true;
+        }
+
+        private static String prefixOf(String qName) {
+            int colon = qName.indexOf(':');
+            return colon > 0 ? qName.substring(0, colon) : "";
+        }
+
+        private void use(String prefix) {
+            if (XMLConstants.XML_NS_PREFIX.equals(prefix) || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+                return;
+            }
+            for (List<String> prefixes : bound) {
+                if (prefixes.contains(prefix)) {
+                    return;
+                }
+            }
+            String uri = context.get().getNamespaceURI(prefix);
+            if (uri != null && !uri.isEmpty()) {
+                bound.get(bound.size() - 1).add(prefix);
+                inherited.get(inherited.size() - 1).add(new String[]{prefix, uri});
+            }
+        }
+    }
+
+    /**
+     * A held back {@linkplain ContentHandler} call.
+     */
+    private interface Call {
+        void replay(ContentHandler handler) throws SAXException;
+    }
+
+    /**
+     * {@linkplain Locator} reporting the current location of the reader, or that of the held back event being
+     * reported.
+     */
+    private static final class ReaderLocator implements Locator {
+
+        private final Supplier<Location> location;
+        /** the location of the held back event being reported, if any */
+        Locator replayed;
+
+        ReaderLocator(Supplier<Location> location) {
+            this.location = location;
+        }
+
+        @Override
+        public String getPublicId() {
+            if (replayed != null) {
+                return replayed.getPublicId();
+            }
+            Location l = location.get();
+            return l == null ? null : l.getPublicId();
+        }
+
+        @Override
+        public String getSystemId() {
+            if (replayed != null) {
+                return replayed.getSystemId();
+            }
+            Location l = location.get();
+            return l == null ? null : l.getSystemId();
+        }
+
+        @Override
+        public int getLineNumber() {
+            if (replayed != null) {
+                return replayed.getLineNumber();
+            }
+            Location l = location.get();
+            return l == null ? -1 : l.getLineNumber();
+        }
+
+        @Override
+        public int getColumnNumber() {
+            if (replayed != null) {
+                return replayed.getColumnNumber();
+            }
+            Location l = location.get();
+            return l == null ? -1 : l.getColumnNumber();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.internal;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the blocking operations behind the {@code marshalAsync} and {@code unmarshalAsync} methods.
+ *
+ * <p>
+ * By default every operation runs on its own virtual thread when the runtime has them, so a marshaller blocked on I/O
+ * does not hold a platform thread. They are looked up reflectively because this API still runs on Java 17; there, the
+ * operations run on a cached pool of daemon threads instead.
+ *
+ * <p>
+ * This package is not exported: the class is public only so that
+ * {@linkplain jakarta.xml.bind.util.UnmarshallingPublisher} shares the default executor.
+ */
+public final class AsyncSupport {
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * @return the executor used when none is given
+     */
+    public static Executor defaultExecutor() {
+        return ExecutorHolder.executor;
+    }
+
+    /**
+     * Runs the task on the executor, which the caller has checked is not null.
+     *
+     * @return a stage completed with the result of the task, or exceptionally with what it threw
+     * @throws java.util.concurrent.RejectedExecutionException if the executor does not accept the task
+     */
+    public static <T> CompletableFuture<T> submit(Executor executor, Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (future.isDone()) {
+                // cancelled before it started
+                return;
+            }
+            try {
+                future.complete(task.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Creates the default executor on first use.
+     */
+    private static final class ExecutorHolder {
+        private static final Executor executor = createExecutor();
+
+        private static Executor createExecutor() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // no virtual threads, or only as a preview feature that is not enabled
+                AtomicInteger count = new AtomicInteger();
+                return Executors.newCachedThreadPool(r -> {
+                    Thread t = new Thread(r, "jakarta.xml.bind-async-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * {@linkplain InputStream} that reads the remaining bytes of a {@linkplain ByteBuffer}.
+ *
+ * <p>
+ * The bytes are copied straight from the buffer into the array passed to {@linkplain #read(byte[], int, int)}, so a
+ * parser reading from this stream sees the buffer without any intermediate copy. Reading advances the position of the
+ * buffer given to the constructor; pass a {@linkplain ByteBuffer#duplicate() duplicate} to leave the original alone.
+ * Subclasses continue with further buffers through {@linkplain #nextBuffer()}.
+ *
+ * <p>
+ * This package is not exported: the class is public only so that {@linkplain jakarta.xml.bind.Unmarshaller} and
+ * {@linkplain jakarta.xml.bind.util.ParallelUnmarshaller} share one implementation.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    private ByteBuffer buffer;
+
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Called when the current buffer is exhausted, to continue with the next part of the input.
+     *
+     * @return the buffer to continue reading from, or null at the end of the input.
+     * @throws IOException if the next part cannot be read
+     */
+    protected ByteBuffer nextBuffer() throws IOException {
+        return null;
+    }
+
+    private boolean ensureRemaining() throws IOException {
+        while (!buffer.hasRemaining()) {
+            ByteBuffer next = nextBuffer();
+            if (next == null) {
+                return false;
+            }
+            buffer = next;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return ensureRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensureRemaining()) {
+            int step = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
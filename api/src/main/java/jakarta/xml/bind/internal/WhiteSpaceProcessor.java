@@ -9,12 +9,16 @@
  * SPDX-License-Identifier: BSD-3-Clause
  */
 
-package jakarta.xml.bind;
+package jakarta.xml.bind.internal;
 
 /**
  * Processes white space normalization.
+ *
+ * <p>
+ * This package is not exported: the class is public only so that {@linkplain jakarta.xml.bind.DatatypeConverter} and
+ * the string adapters of {@code jakarta.xml.bind.annotation.adapters} share one implementation.
  */
-abstract class WhiteSpaceProcessor {
+public abstract class WhiteSpaceProcessor {
 
 // benchmarking (see test/src/ReplaceTest.java in the CVS Attic)
 // showed that this code is slower than the current code.
@@ -35,10 +39,33 @@ abstract class WhiteSpaceProcessor {
 //    }
 
     public static String replace(String text) {
-        return replace((CharSequence) text).toString();
+        int i = text.length() - 1;
+
+        // look for the first whitespace char.
+        while (i >= 0 && !isWhiteSpaceExceptSpace(text.charAt(i))) {
+            i--;
+        }
+
+        if (i < 0) {
+            return text;
+        }
+
+        char[] buf = text.toCharArray();
+        buf[i--] = ' ';
+        for (; i >= 0; i--) {
+            if (isWhiteSpaceExceptSpace(buf[i])) {
+                buf[i] = ' ';
+            }
+        }
+
+        return new String(buf);
     }
 
     public static CharSequence replace(CharSequence text) {
+        if (text instanceof String) {
+            return replace((String) text);
+        }
+
         int i = text.length() - 1;
 
         // look for the first whitespace char.
@@ -65,10 +92,34 @@ abstract class WhiteSpaceProcessor {
         return new String(buf);
     }
 
+    /**
+     * Equivalent of {@linkplain String#trim()}.
+     */
+    public static String trim(String text) {
+        int len = text.length();
+        int start = 0;
+
+        while (start < len && isWhiteSpace(text.charAt(start))) {
+            start++;
+        }
+
+        int end = len;
+
+        while (end > start && isWhiteSpace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        return start == 0 && end == len ? text : text.substring(start, end);
+    }
+
     /**
      * Equivalent of {@linkplain String#trim()}.
      */
     public static CharSequence trim(CharSequence text) {
+        if (text instanceof String) {
+            return trim((String) text);
+        }
+
         int len = text.length();
         int start = 0;
 
@@ -90,13 +141,53 @@ abstract class WhiteSpaceProcessor {
     }
 
     public static String collapse(String text) {
-        return collapse((CharSequence) text).toString();
+        int len = text.length();
+
+        // most of the texts are already in the collapsed form, or only have single spaces between
+        // words (e.g. "New York"), which need no change either.
+        int s = indexOfWhiteSpace(text, 0);
+        while (s > 0 && s < len - 1 && text.charAt(s) == ' ' && !isWhiteSpace(text.charAt(s + 1))) {
+            s = indexOfWhiteSpace(text, s + 2);
+        }
+        if (s < 0) {
+            return text;
+        }
+
+        // same as below, but on a char array sized for the worst case.
+        char[] result = new char[len];
+        text.getChars(0, s, result, 0);
+        int n = s;
+        if (s != 0) {
+            result[n++] = ' ';
+        }
+
+        boolean inStripMode = true;
+        for (int i = s + 1; i < len; i++) {
+            char ch = text.charAt(i);
+            boolean b = isWhiteSpace(ch);
+            if (inStripMode && b) {
+                continue; // skip this character
+            }
+
+            inStripMode = b;
+            result[n++] = inStripMode ? ' ' : ch;
+        }
+
+        if (n > 0 && result[n - 1] == ' ') {
+            n--;
+        }
+
+        return new String(result, 0, n);
     }
 
     /**
      * This is usually the biggest processing bottleneck.
      */
     public static CharSequence collapse(CharSequence text) {
+        if (text instanceof String) {
+            return collapse((String) text);
+        }
+
         int len = text.length();
 
         // most of the texts are already in the collapsed form.
@@ -154,10 +245,39 @@ abstract class WhiteSpaceProcessor {
         return result;
     }
 
+    /**
+     * In-place variant of {@linkplain #collapse(CharSequence)} on {@code buf[start, end)}. The result begins at
+     * {@code start}; collapsing never makes the text longer, so it is written over the input as it is read.
+     *
+     * @return the length of the result.
+     */
+    public static int collapse(char[] buf, int start, int end) {
+        int n = start;
+        boolean inStripMode = true;
+        for (int i = start; i < end; i++) {
+            char ch = buf[i];
+            boolean b = isWhiteSpace(ch);
+            if (inStripMode && b) {
+                continue; // skip this character
+            }
+
+            inStripMode = b;
+            buf[n++] = inStripMode ? ' ' : ch;
+        }
+
+        if (n > start && buf[n - 1] == ' ') {
+            n--;
+        }
+        return n - start;
+    }
+
     /**
      * Returns true if the specified string is all whitespace.
      */
     public static final boolean isWhiteSpace(CharSequence s) {
+        if (s instanceof String) {
+            return isWhiteSpace((String) s);
+        }
         for (int i = s.length() - 1; i >= 0; i--)
             if (!isWhiteSpace(s.charAt(i))) {
                 return false;
@@ -165,6 +285,34 @@ abstract class WhiteSpaceProcessor {
         return true;
     }
 
+    /**
+     * Returns true if the specified string is all whitespace.
+     */
+    public static final boolean isWhiteSpace(String s) {
+        for (int i = s.length() - 1; i >= 0; i--) {
+            if (!isWhiteSpace(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first whitespace character at or after {@code from}, or -1 if there is none.
+     * <p>
+     * The loop is kept to a single comparison per character for the common case, which the JIT unrolls well on
+     * {@linkplain String} (unlike calls through {@linkplain CharSequence#charAt(int)}).
+     */
+    public static int indexOfWhiteSpace(String text, int from) {
+        for (int i = from, len = text.length(); i < len; i++) {
+            char ch = text.charAt(i);
+            if (ch <= 0x20 && isWhiteSpace(ch)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * returns true if the specified char is a white space character.
      */
@@ -182,7 +330,7 @@ abstract class WhiteSpaceProcessor {
     /**
      * Returns true if the specified char is a white space character but not 0x20.
      */
-    protected static final boolean isWhiteSpaceExceptSpace(char ch) {
+    public static final boolean isWhiteSpaceExceptSpace(char ch) {
         // most of the characters are non-control characters.
         // so check that first to quickly return false for most of the cases.
         if (ch >= 0x20) {
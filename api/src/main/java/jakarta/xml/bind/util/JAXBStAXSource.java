@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.util;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+
+import java.util.concurrent.Executor;
+
+import javax.xml.transform.stax.StAXSource;
+
+/**
+ * JAXP {@linkplain javax.xml.transform.Source} implementation that marshals a Jakarta XML Binding object on demand, as
+ * its consumer pulls the events of the {@linkplain #getXMLStreamReader() XMLStreamReader}.
+ *
+ * <p>
+ * Unlike {@linkplain JAXBSource}, which marshals the whole content tree in one push when its pseudo parser is invoked,
+ * this source lets the consumer set the pace: the marshalling runs on a thread of its own, starts when the first event
+ * is pulled, and is suspended while a small buffer of events is waiting to be consumed. A consumer that only needs the
+ * beginning of the document, such as a validator that gives up at the first error, can stop early by
+ * {@linkplain javax.xml.stream.XMLStreamReader#close() closing} the reader, which ends the marshalling as well. A
+ * consumer that stops early must close the reader, or the marshalling thread stays blocked.
+ *
+ * <p>
+ * The following example shows how to use Jakarta XML Binding to marshal a document for validation.
+ * <p>
+ * {@snippet :
+ *  MyObject o = // get JAXB content tree
+ *
+ *  // jaxbContext is a JAXBContext object from which 'o' is created.
+ *  JAXBStAXSource source = new JAXBStAXSource( jaxbContext, o );
+ *
+ *  // validate the content tree as it is marshalled
+ *  Validator v = schema.newValidator();
+ *  try {
+ *      v.validate(source);
+ *  } finally {
+ *      source.getXMLStreamReader().close();
+ *  }
+ *}
+ *
+ * <p>
+ * Each JAXBStAXSource can be consumed only once. The events are those of
+ * {@linkplain Marshaller#marshal(Object, org.xml.sax.ContentHandler)}; errors of the marshalling are thrown as
+ * {@linkplain javax.xml.stream.XMLStreamException}s from the reader.
+ */
+public class JAXBStAXSource extends StAXSource {
+
+    /**
+     * Creates a new {@linkplain javax.xml.transform.Source} for the given content object, marshalled on a new daemon
+     * thread.
+     *
+     * <p>
+     * Each source started by its consumer holds one thread until the marshalling ends. If the consumer stops early and
+     * drops the reader without {@linkplain javax.xml.stream.XMLStreamReader#close() closing} it, that thread stays
+     * blocked for the life of the JVM.
+     *
+     * @param context       JAXBContext that was used to create
+     *                      <code>contentObject</code>. This context is used
+     *                      to create a new instance of marshaller and must not be null.
+     * @param contentObject An instance of a Jakarta XML Binding-generated class, which will be used as a
+     *                      {@linkplain javax.xml.transform.Source} (by marshalling it into XML).  It must not be null.
+     *
+     * @throws JAXBException if an error is encountered while creating the JAXBStAXSource or if either of the
+     *                       parameters are null.
+     */
+    public JAXBStAXSource(JAXBContext context, Object contentObject) throws JAXBException {
+        this(
+                (context == null) ?
+                        assertionFailed(Messages.format(Messages.SOURCE_NULL_CONTEXT)) :
+                        context.createMarshaller(),
+                contentObject);
+    }
+
+    /**
+     * Creates a new {@linkplain javax.xml.transform.Source} for the given content object, marshalled on a new daemon
+     * thread.
+     *
+     * <p>
+     * Each source started by its consumer holds one thread until the marshalling ends. If the consumer stops early and
+     * drops the reader without {@linkplain javax.xml.stream.XMLStreamReader#close() closing} it, that thread stays
+     * blocked for the life of the JVM; use {@linkplain #JAXBStAXSource(Marshaller, Object, Executor)} to bound the
+     * threads.
+     *
+     * @param marshaller    A marshaller instance that will be used to marshal
+     *                      <code>contentObject</code> into XML. This must be
+     *                      created from a JAXBContext that was used to build
+     *                      <code>contentObject</code> and must not be null.
+     * @param contentObject An instance of a Jakarta XML Binding-generated class, which will be used as a
+     *                      {@linkplain javax.xml.transform.Source} (by marshalling it into XML).  It must not be null.
+     *
+     * @throws JAXBException if an error is encountered while creating the JAXBStAXSource or if either of the
+     *                       parameters are null.
+     */
+    public JAXBStAXSource(Marshaller marshaller, Object contentObject) throws JAXBException {
+        this(marshaller, contentObject, JAXBStAXSource::startDaemon);
+    }
+
+    /**
+     * Creates a new {@linkplain javax.xml.transform.Source} for the given content object, marshalled on the given
+     * executor.
+     *
+     * <p>
+     * The marshalling blocks while its consumer is behind, so the executor must not run it on the thread of the
+     * consumer, nor on a pool that the consumer waits for. A consumer that stops early must close the reader to give
+     * the thread back. If the executor rejects the marshalling, the first call to
+     * {@linkplain javax.xml.stream.XMLStreamReader#next()} throws an {@linkplain javax.xml.stream.XMLStreamException},
+     * and a later call tries again.
+     *
+     * @param marshaller    A marshaller instance that will be used to marshal
+     *                      <code>contentObject</code> into XML. This must be
+     *                      created from a JAXBContext that was used to build
+     *                      <code>contentObject</code> and must not be null.
+     * @param contentObject An instance of a Jakarta XML Binding-generated class, which will be used as a
+     *                      {@linkplain javax.xml.transform.Source} (by marshalling it into XML).  It must not be null.
+     * @param executor      The executor running the marshalling. It must not be null.
+     *
+     * @throws JAXBException if an error is encountered while creating the JAXBStAXSource or if any of the parameters
+     *                       are null.
+     */
+    public JAXBStAXSource(Marshaller marshaller, Object contentObject, Executor executor) throws JAXBException {
+        super(new MarshallingStreamReader(
+                (marshaller == null) ?
+                        assertionFailed(Messages.format(Messages.SOURCE_NULL_MARSHALLER)) :
+                        marshaller,
+                (contentObject == null) ?
+                        assertionFailed(Messages.format(Messages.SOURCE_NULL_CONTENT)) :
+                        contentObject,
+                (executor == null) ?
+                        assertionFailed(Messages.format(Messages.MUST_NOT_BE_NULL, "executor")) :
+                        executor));
+    }
+
+    private static void startDaemon(Runnable producer) {
+        Thread thread = new Thread(producer, "JAXBStAXSource");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Hook to throw exception from the middle of a constructor chained call to this
+     */
+    private static <T> T assertionFailed(String message)
+            throws JAXBException {
+
+        throw new JAXBException(message);
+    }
+}
@@ -0,0 +1,661 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.util;
+
+import jakarta.xml.bind.Marshaller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * {@linkplain XMLStreamReader} over the events of a marshalling that runs on another thread.
+ *
+ * <p>
+ * The marshalling starts on the first call to {@linkplain #next()}. It pushes its SAX events into a bounded queue, in
+ * batches, and blocks while the queue is full; the reader takes them off the queue as it is pulled. So the events are
+ * produced as fast as they are consumed, with at most {@value #QUEUED_BATCHES} batches of {@value #BATCH_SIZE} events
+ * buffered in between. {@linkplain #close()} stops the marshalling at its next event.
+ */
+final class MarshallingStreamReader implements XMLStreamReader {
+
+    static final int BATCH_SIZE = 128;
+    static final int QUEUED_BATCHES = 4;
+
+    private static final String[] NO_STRINGS = {};
+    private static final Location UNKNOWN_LOCATION = new Location() {
+        @Override
+        public int getLineNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return null;
+        }
+    };
+
+    /**
+     * An event of the document. Element events carry their names, attributes and namespace declarations; the other
+     * events their text.
+     */
+    private static final class Event {
+        final int type;
+        final String uri;
+        final String localName;
+        final String prefix;
+        final String text;
+        /** the attributes, four strings each: namespace URI, local name, prefix, value */
+        final String[] attributes;
+        /** the namespace declarations, two strings each: prefix, namespace URI */
+        final String[] namespaces;
+        final Throwable error;
+
+        Event(int type, String uri, String localName, String prefix, String text, String[] attributes,
+                String[] namespaces, Throwable error) {
+            this.type = type;
+            this.uri = uri;
+            this.localName = localName;
+            this.prefix = prefix;
+            this.text = text;
+            this.attributes = attributes;
+            this.namespaces = namespaces;
+            this.error = error;
+        }
+    }
+
+    private final Marshaller marshaller;
+    private final Object contentObject;
+    private final Executor executor;
+    private final BlockingQueue<List<Event>> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+    private volatile boolean closed;
+    private boolean started;
+
+    private Iterator<Event> batch = Collections.emptyIterator();
+    private int eventType = START_DOCUMENT;
+    private Event event;
+    /** the namespace declarations in scope, innermost last, two strings each */
+    private final List<String> namespaces = new ArrayList<>();
+    /** the namespace declarations of each open element, as carried by its start element event */
+    private String[][] declared = new String[16][];
+    private int depth;
+    /** the snapshot of {@linkplain #namespaces} handed out until the declarations in scope change, or null */
+    private NamespaceContext context;
+    /** the characters of the text of the current event, or null until asked for */
+    private char[] textCharacters;
+
+    MarshallingStreamReader(Marshaller marshaller, Object contentObject, Executor executor) {
+        this.marshaller = marshaller;
+        this.contentObject = contentObject;
+        this.executor = executor;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        if (eventType == END_DOCUMENT) {
+            throw new NoSuchElementException();
+        }
+        if (closed) {
+            throw new XMLStreamException(Messages.format(Messages.STAX_SOURCE_CLOSED));
+        }
+        if (!started) {
+            try {
+                executor.execute(new Producer());
+            } catch (RejectedExecutionException e) {
+                throw new XMLStreamException(e);
+            }
+            // only once the producer runs, so that a rejected start can be retried
+            started = true;
+        }
+        if (eventType == END_ELEMENT) {
+            depth--;
+            int count = declared[depth].length;
+            if (count > 0) {
+                namespaces.subList(namespaces.size() - count, namespaces.size()).clear();
+                context = null;
+            }
+            declared[depth] = null;
+        }
+        while (!batch.hasNext()) {
+            try {
+                batch = queue.take().iterator();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new XMLStreamException(e);
+            }
+        }
+        Event next = batch.next();
+        if (next.error != null) {
+            close();
+            throw new XMLStreamException(next.error.getMessage(), next.error);
+        }
+        if (next.type == START_ELEMENT) {
+            if (depth == declared.length) {
+                declared = Arrays.copyOf(declared, depth * 2);
+            }
+            declared[depth++] = next.namespaces;
+            if (next.namespaces.length > 0) {
+                Collections.addAll(namespaces, next.namespaces);
+                context = null;
+            }
+        }
+        event = next;
+        textCharacters = null;
+        eventType = next.type;
+        return eventType;
+    }
+
+    @Override
+    public void require(int type, String namespaceURI, String localName) throws XMLStreamException {
+        if (type != eventType
+                || (namespaceURI != null && !namespaceURI.equals(getNamespaceURI()))
+                || (localName != null && !localName.equals(getLocalName()))) {
+            throw new XMLStreamException("Expected event " + type + " {" + namespaceURI + '}' + localName);
+        }
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (eventType != START_ELEMENT) {
+            throw new XMLStreamException("Not on a start element");
+        }
+        StringBuilder text = new StringBuilder();
+        while (next() != END_ELEMENT) {
+            if (eventType == CHARACTERS || eventType == CDATA || eventType == SPACE) {
+                text.append(event.text);
+            } else if (eventType != PROCESSING_INSTRUCTION && eventType != COMMENT) {
+                throw new XMLStreamException("Element text content may not contain START_ELEMENT");
+            }
+        }
+        return text.toString();
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int type = next();
+        while ((type == CHARACTERS && isWhiteSpace()) || type == SPACE || type == PROCESSING_INSTRUCTION
+                || type == COMMENT) {
+            type = next();
+        }
+        if (type != START_ELEMENT && type != END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag");
+        }
+        return type;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return eventType != END_DOCUMENT && !closed;
+    }
+
+    /**
+     * Stops the marshalling, if it is still running.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // unblocks the producer if it waits for room
+        queue.clear();
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException();
+        }
+        return null;
+    }
+
+    @Override
+    public String getNamespaceURI(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException();
+        }
+        if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+            return XMLConstants.XML_NS_URI;
+        }
+        if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+            return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+        }
+        for (int i = namespaces.size() - 2; i >= 0; i -= 2) {
+            if (namespaces.get(i).equals(prefix)) {
+                return namespaces.get(i + 1);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isStartElement() {
+        return eventType == START_ELEMENT;
+    }
+
+    @Override
+    public boolean isEndElement() {
+        return eventType == END_ELEMENT;
+    }
+
+    @Override
+    public boolean isCharacters() {
+        return eventType == CHARACTERS;
+    }
+
+    @Override
+    public boolean isWhiteSpace() {
+        if (eventType == SPACE) {
+            return true;
+        }
+        if (eventType != CHARACTERS) {
+            return false;
+        }
+        String text = event.text;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String[] attributes() {
+        if (eventType != START_ELEMENT) {
+            throw new IllegalStateException();
+        }
+        return event.attributes;
+    }
+
+    @Override
+    public String getAttributeValue(String namespaceURI, String localName) {
+        String[] attributes = attributes();
+        for (int i = 0; i < attributes.length; i += 4) {
+            if (attributes[i + 1].equals(localName)
+                    && (namespaceURI == null || namespaceURI.equals(attributes[i]))) {
+                return attributes[i + 3];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return attributes().length / 4;
+    }
+
+    @Override
+    public QName getAttributeName(int index) {
+        String[] attributes = attributes();
+        return new QName(attributes[index * 4], attributes[index * 4 + 1], attributes[index * 4 + 2]);
+    }
+
+    @Override
+    public String getAttributeNamespace(int index) {
+        String uri = attributes()[index * 4];
+        return uri.isEmpty() ? null : uri;
+    }
+
+    @Override
+    public String getAttributeLocalName(int index) {
+        return attributes()[index * 4 + 1];
+    }
+
+    @Override
+    public String getAttributePrefix(int index) {
+        return attributes()[index * 4 + 2];
+    }
+
+    @Override
+    public String getAttributeType(int index) {
+        attributes();
+        return "CDATA";
+    }
+
+    @Override
+    public String getAttributeValue(int index) {
+        return attributes()[index * 4 + 3];
+    }
+
+    @Override
+    public boolean isAttributeSpecified(int index) {
+        attributes();
+        return true;
+    }
+
+    private String[] namespaceDeclarations() {
+        if (eventType != START_ELEMENT && eventType != END_ELEMENT) {
+            throw new IllegalStateException();
+        }
+        // on an end element, the declarations going out of scope are those of the matching start element
+        return declared[depth - 1];
+    }
+
+    @Override
+    public int getNamespaceCount() {
+        return namespaceDeclarations().length / 2;
+    }
+
+    @Override
+    public String getNamespacePrefix(int index) {
+        String prefix = namespaceDeclarations()[index * 2];
+        return prefix.isEmpty() ? null : prefix;
+    }
+
+    @Override
+    public String getNamespaceURI(int index) {
+        return namespaceDeclarations()[index * 2 + 1];
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        // most elements declare nothing, so that the same snapshot serves the whole subtree of the last declaration
+        if (context == null) {
+            context = newNamespaceContext(namespaces.toArray(NO_STRINGS));
+        }
+        return context;
+    }
+
+    private static NamespaceContext newNamespaceContext(String[] inScope) {
+        return new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(String prefix) {
+                if (prefix == null) {
+                    throw new IllegalArgumentException();
+                }
+                if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+                    return XMLConstants.XML_NS_URI;
+                }
+                if (XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+                    return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+                }
+                for (int i = inScope.length - 2; i >= 0; i -= 2) {
+                    if (inScope[i].equals(prefix)) {
+                        return inScope[i + 1];
+                    }
+                }
+                return XMLConstants.NULL_NS_URI;
+            }
+
+            @Override
+            public String getPrefix(String namespaceURI) {
+                Iterator<String> prefixes = getPrefixes(namespaceURI);
+                return prefixes.hasNext() ? prefixes.next() : null;
+            }
+
+            @Override
+            public Iterator<String> getPrefixes(String namespaceURI) {
+                if (namespaceURI == null) {
+                    throw new IllegalArgumentException();
+                }
+                List<String> prefixes = new ArrayList<>();
+                for (int i = inScope.length - 2; i >= 0; i -= 2) {
+                    if (inScope[i + 1].equals(namespaceURI) && !prefixes.contains(inScope[i])
+                            && namespaceURI.equals(getNamespaceURI(inScope[i]))) {
+                        prefixes.add(inScope[i]);
+                    }
+                }
+                return prefixes.iterator();
+            }
+        };
+    }
+
+    @Override
+    public int getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public String getText() {
+        if (!hasText()) {
+            throw new IllegalStateException();
+        }
+        return event.text;
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        String text = getText();
+        if (textCharacters == null) {
+            textCharacters = text.toCharArray();
+        }
+        return textCharacters;
+    }
+
+    @Override
+    public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length) {
+        String text = getText();
+        int count = Math.max(0, Math.min(length, text.length() - sourceStart));
+        text.getChars(sourceStart, sourceStart + count, target, targetStart);
+        return count;
+    }
+
+    @Override
+    public int getTextStart() {
+        getText();
+        return 0;
+    }
+
+    @Override
+    public int getTextLength() {
+        return getText().length();
+    }
+
+    @Override
+    public String getEncoding() {
+        return null;
+    }
+
+    @Override
+    public boolean hasText() {
+        return eventType == CHARACTERS || eventType == CDATA || eventType == SPACE || eventType == COMMENT;
+    }
+
+    @Override
+    public Location getLocation() {
+        return UNKNOWN_LOCATION;
+    }
+
+    @Override
+    public QName getName() {
+        if (!hasName()) {
+            throw new IllegalStateException();
+        }
+        return new QName(event.uri, event.localName, event.prefix);
+    }
+
+    @Override
+    public String getLocalName() {
+        if (!hasName()) {
+            throw new IllegalStateException();
+        }
+        return event.localName;
+    }
+
+    @Override
+    public boolean hasName() {
+        return eventType == START_ELEMENT || eventType == END_ELEMENT;
+    }
+
+    @Override
+    public String getNamespaceURI() {
+        return hasName() && !event.uri.isEmpty() ? event.uri : null;
+    }
+
+    @Override
+    public String getPrefix() {
+        return hasName() ? event.prefix : null;
+    }
+
+    @Override
+    public String getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isStandalone() {
+        return false;
+    }
+
+    @Override
+    public boolean standaloneSet() {
+        return false;
+    }
+
+    @Override
+    public String getCharacterEncodingScheme() {
+        return null;
+    }
+
+    @Override
+    public String getPITarget() {
+        return eventType == PROCESSING_INSTRUCTION ? event.localName : null;
+    }
+
+    @Override
+    public String getPIData() {
+        return eventType == PROCESSING_INSTRUCTION ? event.text : null;
+    }
+
+    /**
+     * Marshals the content object into batches of events.
+     */
+    private final class Producer extends DefaultHandler implements Runnable {
+
+        private List<Event> events = new ArrayList<>(BATCH_SIZE);
+        private final List<String> pendingNamespaces = new ArrayList<>();
+
+        @Override
+        public void run() {
+            try {
+                marshaller.marshal(contentObject, this);
+                add(new Event(END_DOCUMENT, null, null, null, null, null, null, null));
+                flush();
+            } catch (Throwable t) {
+                if (!closed) {
+                    events.add(new Event(END_DOCUMENT, null, null, null, null, null, null, t));
+                    try {
+                        flush();
+                    } catch (SAXException e) {
+                        // closed in the meantime
+                    }
+                }
+            }
+        }
+
+        private void add(Event e) throws SAXException {
+            if (closed) {
+                throw new SAXException(Messages.format(Messages.STAX_SOURCE_CLOSED));
+            }
+            events.add(e);
+            if (events.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SAXException {
+            try {
+                queue.put(events);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SAXException(e);
+            }
+            events = new ArrayList<>(BATCH_SIZE);
+        }
+
+        @Override
+        public void startPrefixMapping(String prefix, String uri) {
+            pendingNamespaces.add(prefix);
+            pendingNamespaces.add(uri);
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+            List<String> attributes = new ArrayList<>(atts.getLength() * 4);
+            for (int i = 0; i < atts.getLength(); i++) {
+                String name = atts.getQName(i);
+                if (name.equals(XMLConstants.XMLNS_ATTRIBUTE) || name.startsWith("xmlns:")) {
+                    // reported by startPrefixMapping
+                    continue;
+                }
+                attributes.add(atts.getURI(i));
+                attributes.add(atts.getLocalName(i).isEmpty() ? localPart(name) : atts.getLocalName(i));
+                attributes.add(prefix(name));
+                attributes.add(atts.getValue(i));
+            }
+            String[] namespaces = pendingNamespaces.toArray(NO_STRINGS);
+            pendingNamespaces.clear();
+            add(new Event(START_ELEMENT, uri, localName.isEmpty() ? localPart(qName) : localName, prefix(qName),
+                    null, attributes.toArray(NO_STRINGS), namespaces, null));
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            add(new Event(END_ELEMENT, uri, localName.isEmpty() ? localPart(qName) : localName, prefix(qName),
+                    null, null, null, null));
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            add(new Event(CHARACTERS, null, null, null, new String(ch, start, length), null, null, null));
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            add(new Event(SPACE, null, null, null, new String(ch, start, length), null, null, null));
+        }
+
+        @Override
+        public void processingInstruction(String target, String data) throws SAXException {
+            add(new Event(PROCESSING_INSTRUCTION, null, target, null, data, null, null, null));
+        }
+
+        private String prefix(String qName) {
+            int colon = qName.indexOf(':');
+            return colon < 0 ? XMLConstants.DEFAULT_NS_PREFIX : qName.substring(0, colon);
+        }
+
+        private String localPart(String qName) {
+            return qName.substring(qName.indexOf(':') + 1);
+        }
+    }
+}
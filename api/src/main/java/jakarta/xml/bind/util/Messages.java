@@ -67,4 +67,34 @@ class Messages {
     static final String SOURCE_NULL_MARSHALLER = // 0 arg
             "JAXBSource.NullMarshaller";
 
+    static final String SPLITTER_NULL_CONTEXT = // 0 args
+            "ParallelUnmarshaller.NullContext";
+
+    static final String SPLITTER_UNEXPECTED_EOF = // 0 args
+            "ParallelUnmarshaller.UnexpectedEOF";
+
+    static final String SPLITTER_UNSUPPORTED_ENCODING = // 0 args
+            "ParallelUnmarshaller.UnsupportedEncoding";
+
+    static final String SPLITTER_UNEXPECTED_TEXT = // 0 args
+            "ParallelUnmarshaller.UnexpectedText";
+
+    static final String SPLITTER_RECORD_TOO_LARGE = // 1 arg
+            "ParallelUnmarshaller.RecordTooLarge";
+
+    static final String STITCHER_NULL_CONTEXT = // 0 args
+            "ParallelMarshaller.NullContext";
+
+    static final String PUBLISHER_ALREADY_SUBSCRIBED = // 0 args
+            "UnmarshallingPublisher.AlreadySubscribed";
+
+    static final String STAX_SOURCE_CLOSED = // 0 args
+            "JAXBStAXSource.Closed";
+
+    static final String MUST_NOT_BE_NULL = // 1 arg
+            "Shared.MustNotBeNull";
+
+    static final String MUST_BE_POSITIVE = // 1 arg
+            "Shared.MustBePositive";
+
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.util;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.MarshalException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.helpers.AbstractMarshallerImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Result;
+
+/**
+ * Marshals a large collection of objects in parallel into one document.
+ *
+ * <p>
+ * The objects are cut into slices of consecutive objects. Each slice is marshalled on a {@linkplain ForkJoinPool} as
+ * a sequence of {@linkplain Marshaller#JAXB_FRAGMENT fragments} into a buffer, each worker with its own
+ * {@linkplain Marshaller} created from the same {@linkplain JAXBContext}. The calling thread writes the XML
+ * declaration and the start tag of the root element, then the buffers in the order of the objects, then the end tag.
+ *
+ * <p>
+ * Only a bounded number of slices are marshalled or waiting to be written at any time: once the limit is reached, the
+ * calling thread stops reading the objects until the oldest slice has been written. This caps the memory used by the
+ * buffers, and the objects can be read lazily, for instance from a database cursor.
+ *
+ * <p>
+ * The following example writes a large export:
+ * <p>
+ * {@snippet :
+ *  ParallelMarshaller marshaller = new ParallelMarshaller(
+ *    JAXBContext.newInstance("org.acme.foo") );
+ *
+ *  try (OutputStream os = Files.newOutputStream(Path.of("export.xml"))) {
+ *    marshaller.marshal(records, new QName("urn:acme", "export"), os);
+ *  }
+ *}
+ *
+ * <p>
+ * The Marshallers are pooled and reused across calls; override {@linkplain #createMarshaller()} to configure them.
+ * The encoding of the document is the {@linkplain Marshaller#JAXB_ENCODING encoding} of the Marshallers. An instance
+ * can be used by several threads at once.
+ */
+public class ParallelMarshaller {
+
+    /**
+     * The default number of objects in a slice.
+     */
+    public static final int DEFAULT_SLICE_SIZE = 1000;
+
+    private final JAXBContext context;
+    private final ForkJoinPool pool;
+    private final int sliceSize;
+    private final int maxSlicesInFlight;
+    private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new instance that marshals with the specified JAXBContext on the
+     * {@linkplain ForkJoinPool#commonPool() common pool}, with slices of {@value #DEFAULT_SLICE_SIZE} objects and at
+     * most two slices in flight per worker.
+     *
+     * @param context The JAXBContext that will be used to create the necessary Marshallers. This parameter must not be
+     *                null.
+     *
+     * @throws JAXBException if the context parameter is null.
+     */
+    public ParallelMarshaller(JAXBContext context) throws JAXBException {
+        this(context, ForkJoinPool.commonPool(), DEFAULT_SLICE_SIZE, 2 * ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * Creates a new instance that marshals with the specified JAXBContext on the specified pool.
+     *
+     * @param context           The JAXBContext that will be used to create the necessary Marshallers. This parameter
+     *                          must not be null.
+     * @param pool              the pool running the workers. This parameter must not be null.
+     * @param sliceSize         the number of objects marshalled by a worker at a time
+     * @param maxSlicesInFlight the number of slices that may be marshalled or waiting to be written at the same time
+     *
+     * @throws JAXBException            if the context parameter is null.
+     * @throws IllegalArgumentException if the pool parameter is null or the sizes are not positive
+     */
+    public ParallelMarshaller(JAXBContext context, ForkJoinPool pool, int sliceSize, int maxSlicesInFlight)
+            throws JAXBException {
+        if (context == null) {
+            throw new JAXBException(Messages.format(Messages.STITCHER_NULL_CONTEXT));
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "pool"));
+        }
+        if (sliceSize <= 0) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_BE_POSITIVE, "sliceSize"));
+        }
+        if (maxSlicesInFlight <= 0) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_BE_POSITIVE, "maxSlicesInFlight"));
+        }
+        this.context = context;
+        this.pool = pool;
+        this.sliceSize = sliceSize;
+        this.maxSlicesInFlight = maxSlicesInFlight;
+    }
+
+    /**
+     * Creates the Marshaller of a worker.
+     *
+     * <p>
+     * Override this method to configure the Marshallers, for instance with an encoding or an event handler. The
+     * {@linkplain Marshaller#JAXB_FRAGMENT} property is set by the caller and must not be changed.
+     *
+     * @return a new Marshaller
+     * @throws JAXBException if the Marshaller cannot be created
+     */
+    protected Marshaller createMarshaller() throws JAXBException {
+        return context.createMarshaller();
+    }
+
+    /**
+     * Marshals the specified objects, in order, as the children of a root element into the specified stream.
+     *
+     * <p>
+     * Each object must be one that {@linkplain Marshaller#marshal(Object, OutputStream)} accepts, that is a
+     * {@linkplain jakarta.xml.bind.JAXBElement} or an instance of a class annotated with
+     * {@code @XmlRootElement}. The stream is flushed but not closed. If an object fails to marshal, the document
+     * written so far is incomplete.
+     *
+     * @param items       the objects to marshal
+     * @param rootElement the name of the root element wrapping the objects
+     * @param os          the stream to write the document to
+     *
+     * @throws MarshalException         If an object cannot be marshalled or the stream cannot be written
+     * @throws JAXBException            If any unexpected problem occurs during the marshalling
+     * @throws IllegalArgumentException If any of the method parameters are null
+     */
+    public void marshal(Iterable<?> items, QName rootElement, OutputStream os) throws JAXBException {
+        if (items == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "items"));
+        }
+        if (rootElement == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "rootElement"));
+        }
+        if (os == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "os"));
+        }
+        Deque<ForkJoinTask<ByteArrayOutputStream>> inFlight = new ArrayDeque<>();
+        try {
+            Charset charset = getCharset();
+            String qName = rootElement.getLocalPart();
+            StringBuilder startTag = new StringBuilder("<?xml version=\"1.0\" encoding=\"")
+                    .append(charset.name()).append("\" standalone=\"yes\"?>");
+            if (rootElement.getNamespaceURI().isEmpty()) {
+                startTag.append('<').append(qName);
+            } else {
+                // a prefix keeps the default namespace of the fragments unbound
+                String prefix = rootElement.getPrefix().isEmpty() ? "ns0" : rootElement.getPrefix();
+                qName = prefix + ':' + qName;
+                startTag.append('<').append(qName).append(" xmlns:").append(prefix).append("=\"");
+                appendEscaped(startTag, rootElement.getNamespaceURI()).append('"');
+            }
+            os.write(startTag.append('>').toString().getBytes(charset));
+
+            Iterator<?> it = items.iterator();
+            while (it.hasNext()) {
+                List<Object> slice = new ArrayList<>(sliceSize);
+                while (slice.size() < sliceSize && it.hasNext()) {
+                    slice.add(it.next());
+                }
+                if (inFlight.size() == maxSlicesInFlight) {
+                    inFlight.removeFirst().get().writeTo(os);
+                }
+                inFlight.addLast(pool.submit(() -> marshalSlice(slice)));
+            }
+            while (!inFlight.isEmpty()) {
+                inFlight.removeFirst().get().writeTo(os);
+            }
+
+            os.write(("</" + qName + '>').getBytes(charset));
+            os.flush();
+        } catch (IOException e) {
+            throw new MarshalException(e);
+        } catch (ExecutionException e) {
+            throw ParallelUnmarshaller.unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXBException(e);
+        } finally {
+            for (ForkJoinTask<ByteArrayOutputStream> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private ByteArrayOutputStream marshalSlice(List<Object> slice) throws JAXBException {
+        Marshaller marshaller = borrow();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (Object item : slice) {
+                marshaller.marshal(item, out);
+            }
+            return out;
+        } finally {
+            marshallers.offer(marshaller);
+        }
+    }
+
+    private Marshaller borrow() throws JAXBException {
+        Marshaller marshaller = marshallers.poll();
+        if (marshaller == null) {
+            marshaller = createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Gets the encoding of the Marshallers, which the fragments are written in. The name is resolved like
+     * {@linkplain AbstractMarshallerImpl} does, so the IANA names it maps to Java names are accepted too.
+     */
+    private Charset getCharset() throws JAXBException {
+        Marshaller marshaller = borrow();
+        try {
+            Object encoding = marshaller.getProperty(Marshaller.JAXB_ENCODING);
+            return encoding == null ? StandardCharsets.UTF_8 : EncodingResolver.getCharset(encoding.toString());
+        } catch (UnsupportedEncodingException e) {
+            throw new MarshalException(e);
+        } finally {
+            marshallers.offer(marshaller);
+        }
+    }
+
+    /**
+     * Gives access to the encoding resolution of {@linkplain AbstractMarshallerImpl}; it marshals nothing.
+     */
+    private static final class EncodingResolver extends AbstractMarshallerImpl {
+
+        static Charset getCharset(String encoding) throws UnsupportedEncodingException {
+            EncodingResolver resolver = new EncodingResolver();
+            resolver.setEncoding(encoding);
+            return resolver.getCharset();
+        }
+
+        @Override
+        public void marshal(Object jaxbElement, Result result) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static StringBuilder appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                default:
+                    sb.append(c);
+                    break;
+            }
+        }
+        return sb;
+    }
+}
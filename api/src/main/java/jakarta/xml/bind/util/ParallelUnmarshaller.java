@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.util;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.UnmarshalException;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.internal.ByteBufferInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Unmarshals the children of the root element of a large document in parallel.
+ *
+ * <p>
+ * Many large documents are exports of records: a root element with a long list of children that are independent of
+ * each other. A single {@linkplain Unmarshaller} reads such a document on one core. This class scans the bytes of the
+ * document for the boundaries of the records, groups consecutive records into chunks, and unmarshals the chunks in
+ * parallel on a {@linkplain ForkJoinPool}, each worker with its own Unmarshaller created from the same
+ * {@linkplain JAXBContext}. The records are returned in document order.
+ *
+ * <p>
+ * Each chunk is parsed together with the prolog and the start tag of the root element, so the encoding, the entities
+ * and the namespace declarations of the document apply to every record. The prolog is parsed once before the first
+ * chunk, so that its errors are reported before any worker starts; the external entities it references, such as an
+ * external DTD, are resolved by the parser of every chunk, under the properties of the {@linkplain XMLInputFactory}.
+ * The document must be in UTF-8 or in another encoding that is a superset of US-ASCII, and the root element must not
+ * contain character data other than white space between its children.
+ *
+ * <p>
+ * The following example unmarshals every record of a large file:
+ * <p>
+ * {@snippet :
+ *  ParallelUnmarshaller unmarshaller = new ParallelUnmarshaller(
+ *    JAXBContext.newInstance("org.acme.foo") );
+ *
+ *  List<Object> records = unmarshaller.unmarshal(Path.of("export.xml"));
+ *}
+ *
+ * <p>
+ * The Unmarshallers are pooled and reused across calls; override {@linkplain #createUnmarshaller()} to configure them.
+ * An instance can be used by several threads at once.
+ */
+public class ParallelUnmarshaller {
+
+    /**
+     * The default number of bytes of records in a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The size of the windows in which a file is mapped into memory for scanning.
+     */
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final JAXBContext context;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new instance that unmarshals with the specified JAXBContext on the
+     * {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param context The JAXBContext that will be used to create the necessary Unmarshallers. This parameter must not
+     *                be null.
+     *
+     * @throws JAXBException if the context parameter is null.
+     */
+    public ParallelUnmarshaller(JAXBContext context) throws JAXBException {
+        this(context, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new instance that unmarshals with the specified JAXBContext on the specified pool.
+     *
+     * <p>
+     * Smaller chunks spread a document over more workers; larger chunks parse more records for every copy of the
+     * prolog and root start tag.
+     *
+     * @param context   The JAXBContext that will be used to create the necessary Unmarshallers. This parameter must
+     *                  not be null.
+     * @param pool      the pool running the workers. This parameter must not be null.
+     * @param chunkSize the number of bytes of records after which a chunk is handed to a worker
+     *
+     * @throws JAXBException            if the context parameter is null.
+     * @throws IllegalArgumentException if the pool parameter is null or the chunk size is not positive
+     */
+    public ParallelUnmarshaller(JAXBContext context, ForkJoinPool pool, int chunkSize) throws JAXBException {
+        if (context == null) {
+            throw new JAXBException(Messages.format(Messages.SPLITTER_NULL_CONTEXT));
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "pool"));
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_BE_POSITIVE, "chunkSize"));
+        }
+        this.context = context;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the Unmarshaller of a worker.
+     *
+     * <p>
+     * Override this method to configure the Unmarshallers, for instance with a schema or an event handler.
+     *
+     * @return a new Unmarshaller
+     * @throws JAXBException if the Unmarshaller cannot be created
+     */
+    protected Unmarshaller createUnmarshaller() throws JAXBException {
+        return context.createUnmarshaller();
+    }
+
+    /**
+     * Unmarshals the children of the root element of the specified file.
+     *
+     * <p>
+     * The file is mapped into memory in a few large windows, from which the chunks are sliced; the workers start on
+     * the first chunks while the rest of the file is being scanned.
+     *
+     * @param file the file to unmarshal XML data from
+     *
+     * @return the unmarshalled records, in document order
+     * @throws JAXBException            If any unexpected errors occur while unmarshalling
+     * @throws IllegalArgumentException If the file parameter is null
+     */
+    public List<Object> unmarshal(Path file) throws JAXBException {
+        return unmarshalFile(file, null);
+    }
+
+    /**
+     * Unmarshals the children of the root element of the specified file by declaredType.
+     *
+     * @param file         the file to unmarshal XML data from
+     * @param declaredType appropriate Jakarta XML Binding mapped class to hold the records
+     * @param <T>          the type of the records
+     *
+     * @return the values of the unmarshalled records, in document order
+     * @throws JAXBException            If any unexpected errors occur while unmarshalling
+     * @throws IllegalArgumentException If any parameter is null
+     * @see #unmarshal(Path)
+     */
+    public <T> List<T> unmarshal(Path file, Class<T> declaredType) throws JAXBException {
+        if (declaredType == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "declaredType"));
+        }
+        return unmarshalFile(file, declaredType);
+    }
+
+    private <T> List<T> unmarshalFile(Path file, Class<T> declaredType) throws JAXBException {
+        if (file == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "file"));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the windows scanned so far; a region is only asked for once it has been scanned
+            List<ByteBuffer> windows = new ArrayList<>();
+            Job<T> job = new Job<>(declaredType, file.toUri().toString()) {
+                @Override
+                ByteBuffer[] region(long start, long end) {
+                    int first = (int) (start / WINDOW_SIZE);
+                    ByteBuffer[] parts = new ByteBuffer[(int) ((end - 1) / WINDOW_SIZE) - first + 1];
+                    for (int i = 0; i < parts.length; i++) {
+                        long windowStart = (first + i) * WINDOW_SIZE;
+                        int from = (int) (Math.max(start, windowStart) - windowStart);
+                        int to = (int) (Math.min(end, windowStart + WINDOW_SIZE) - windowStart);
+                        parts[i] = windows.get(first + i).slice(from, to - from);
+                    }
+                    return parts;
+                }
+            };
+            try {
+                long size = channel.size();
+                for (long offset = 0; offset < size; offset += WINDOW_SIZE) {
+                    ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                            Math.min(size - offset, WINDOW_SIZE));
+                    windows.add(window);
+                    job.scanner.scan(window, offset);
+                }
+                return job.finish();
+            } finally {
+                job.cancel();
+            }
+        } catch (IOException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Unmarshals the children of the root element of the remaining bytes of the specified buffer.
+     *
+     * <p>
+     * The position and limit of the buffer are not changed.
+     *
+     * @param buffer the buffer to unmarshal XML data from
+     *
+     * @return the unmarshalled records, in document order
+     * @throws JAXBException            If any unexpected errors occur while unmarshalling
+     * @throws IllegalArgumentException If the buffer parameter is null
+     */
+    public List<Object> unmarshal(ByteBuffer buffer) throws JAXBException {
+        return unmarshalBuffer(buffer, null);
+    }
+
+    /**
+     * Unmarshals the children of the root element of the remaining bytes of the specified buffer by declaredType.
+     *
+     * @param buffer       the buffer to unmarshal XML data from
+     * @param declaredType appropriate Jakarta XML Binding mapped class to hold the records
+     * @param <T>          the type of the records
+     *
+     * @return the values of the unmarshalled records, in document order
+     * @throws JAXBException            If any unexpected errors occur while unmarshalling
+     * @throws IllegalArgumentException If any parameter is null
+     * @see #unmarshal(ByteBuffer)
+     */
+    public <T> List<T> unmarshal(ByteBuffer buffer, Class<T> declaredType) throws JAXBException {
+        if (declaredType == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "declaredType"));
+        }
+        return unmarshalBuffer(buffer, declaredType);
+    }
+
+    private <T> List<T> unmarshalBuffer(ByteBuffer buffer, Class<T> declaredType) throws JAXBException {
+        if (buffer == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "buffer"));
+        }
+        ByteBuffer document = buffer.slice();
+        Job<T> job = new Job<>(declaredType, null) {
+            @Override
+            ByteBuffer[] region(long start, long end) {
+                return new ByteBuffer[]{document.slice((int) start, (int) (end - start))};
+            }
+        };
+        try {
+            job.scanner.scan(document, 0);
+            return job.finish();
+        } finally {
+            job.cancel();
+        }
+    }
+
+    /**
+     * The unmarshalling of one document: collects the records found by the scanner into chunks and submits them to
+     * the pool as they fill up.
+     */
+    private abstract class Job<T> implements RecordScanner.Handler {
+
+        final RecordScanner scanner = new RecordScanner(this);
+        /** the type of the records, or null to unmarshal them as global root elements */
+        private final Class<T> declaredType;
+        private final String systemId;
+        private final List<ForkJoinTask<List<T>>> tasks = new ArrayList<>();
+        private long chunkStart = -1;
+        private long chunkEnd;
+        /** the prolog and the start tag of the root element */
+        private ByteBuffer header;
+        /** the end tag of the root element */
+        private ByteBuffer trailer;
+
+        Job(Class<T> declaredType, String systemId) {
+            this.declaredType = declaredType;
+            this.systemId = systemId;
+        }
+
+        /**
+         * @return the bytes of the document between the specified offsets, in one or more consecutive parts
+         */
+        abstract ByteBuffer[] region(long start, long end);
+
+        @Override
+        public void record(long start, long end) throws JAXBException {
+            if (chunkStart < 0) {
+                chunkStart = start;
+            }
+            chunkEnd = end;
+            if (chunkEnd - chunkStart >= chunkSize) {
+                submit();
+            }
+        }
+
+        private void submit() throws JAXBException {
+            if (chunkStart < 0) {
+                return;
+            }
+            if (chunkEnd - chunkStart > Integer.MAX_VALUE) {
+                throw new UnmarshalException(Messages.format(Messages.SPLITTER_RECORD_TOO_LARGE, chunkStart));
+            }
+            if (header == null) {
+                header = join(region(0, scanner.getHeaderEnd()));
+                trailer = endTag(header, (int) scanner.getRootStart());
+                parseHeader();
+            }
+            ByteBuffer[] chunk = region(chunkStart, chunkEnd);
+            tasks.add(pool.submit(() -> unmarshalChunk(chunk)));
+            chunkStart = -1;
+        }
+
+        /**
+         * Parses the prolog and the root element once, so that its errors are reported before any chunk is submitted.
+         */
+        private void parseHeader() throws UnmarshalException {
+            try {
+                XMLStreamReader reader = createReader(concat(header.duplicate(), trailer.duplicate()));
+                try {
+                    while (reader.hasNext()) {
+                        reader.next();
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new UnmarshalException(e);
+            }
+        }
+
+        private XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+            XMLInputFactory factory = InputFactoryHolder.factory;
+            return systemId == null ? factory.createXMLStreamReader(in) : factory.createXMLStreamReader(systemId, in);
+        }
+
+        List<T> finish() throws JAXBException {
+            try {
+                scanner.finish();
+                submit();
+                List<T> records = new ArrayList<>();
+                for (ForkJoinTask<List<T>> task : tasks) {
+                    records.addAll(task.get());
+                }
+                return records;
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JAXBException(e);
+            }
+        }
+
+        /**
+         * Cancels the chunks that have not been unmarshalled, once the job is over or has failed.
+         */
+        void cancel() {
+            for (ForkJoinTask<List<T>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+
+        private List<T> unmarshalChunk(ByteBuffer[] chunk) throws JAXBException {
+            Unmarshaller unmarshaller = unmarshallers.poll();
+            if (unmarshaller == null) {
+                unmarshaller = createUnmarshaller();
+            }
+            ByteBuffer[] parts = new ByteBuffer[chunk.length + 2];
+            parts[0] = header.duplicate();
+            System.arraycopy(chunk, 0, parts, 1, chunk.length);
+            parts[parts.length - 1] = trailer.duplicate();
+            try {
+                XMLStreamReader reader = createReader(concat(parts));
+                try {
+                    List<T> records = new ArrayList<>();
+                    while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        // skip the prolog
+                    }
+                    reader.next();
+                    // the reader is left on the event right after each record
+                    while (skipToTag(reader) == XMLStreamConstants.START_ELEMENT) {
+                        records.add(unmarshalRecord(unmarshaller, reader));
+                    }
+                    return records;
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new UnmarshalException(e);
+            } finally {
+                unmarshallers.offer(unmarshaller);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T unmarshalRecord(Unmarshaller unmarshaller, XMLStreamReader reader) throws JAXBException {
+            if (declaredType == null) {
+                return (T) unmarshaller.unmarshal(reader);
+            }
+            return unmarshaller.unmarshal(reader, declaredType).getValue();
+        }
+    }
+
+    /**
+     * Gets the exception that made a worker fail, which the pool wraps when it is a checked exception.
+     */
+    static JAXBException unwrap(ExecutionException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof JAXBException) {
+                return (JAXBException) cause;
+            }
+        }
+        return new JAXBException(e.getCause());
+    }
+
+    /**
+     * Moves the reader from its current event to the next start or end tag, skipping white space, comments and
+     * processing instructions.
+     */
+    static int skipToTag(XMLStreamReader reader) throws XMLStreamException, UnmarshalException {
+        int event = reader.getEventType();
+        while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            if ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) && !reader.isWhiteSpace()) {
+                throw new UnmarshalException(Messages.format(Messages.SPLITTER_UNEXPECTED_TEXT));
+            }
+            event = reader.next();
+        }
+        return event;
+    }
+
+    /**
+     * Copies the parts of a region that spans several windows into a single buffer.
+     */
+    private static ByteBuffer join(ByteBuffer[] parts) {
+        if (parts.length == 1) {
+            return parts[0];
+        }
+        int length = 0;
+        for (ByteBuffer part : parts) {
+            length += part.remaining();
+        }
+        ByteBuffer joined = ByteBuffer.allocate(length);
+        for (ByteBuffer part : parts) {
+            joined.put(part.duplicate());
+        }
+        return joined.flip();
+    }
+
+    /**
+     * Reads the remaining bytes of the parts one after the other, without copying them into an intermediate array.
+     * Reading advances the positions of the parts.
+     */
+    private static InputStream concat(ByteBuffer... parts) {
+        return new ByteBufferInputStream(parts[0]) {
+            private int next = 1;
+
+            @Override
+            protected ByteBuffer nextBuffer() {
+                return next < parts.length ? parts[next++] : null;
+            }
+        };
+    }
+
+    /**
+     * Builds the end tag matching the start tag at the specified index of the header.
+     */
+    private static ByteBuffer endTag(ByteBuffer header, int start) {
+        int end = start + 1;
+        while (end < header.limit()) {
+            byte b = header.get(end);
+            if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                break;
+            }
+            end++;
+        }
+        byte[] tag = new byte[end - start + 2];
+        header.get(start + 1, tag, 2, end - start - 1);
+        tag[0] = '<';
+        tag[1] = '/';
+        tag[tag.length - 1] = '>';
+        return ByteBuffer.wrap(tag).asReadOnlyBuffer();
+    }
+
+    /**
+     * Creates the factory shared by the workers and the {@linkplain UnmarshallingPublisher}s on first use.
+     */
+    static final class InputFactoryHolder {
+        static final XMLInputFactory factory = XMLInputFactory.newFactory();
+    }
+}
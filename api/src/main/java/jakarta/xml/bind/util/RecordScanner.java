@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.util;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.UnmarshalException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the boundaries of the children of the root element in the bytes of an XML document, without parsing it.
+ *
+ * <p>
+ * The scanner only tells markup from character data: it follows tags, quoted attribute values, comments, CDATA
+ * sections, processing instructions and the document type declaration closely enough to keep track of the element
+ * depth. It relies on {@code '<'}, {@code '>'} and the quotes being single bytes, so it works for UTF-8 and the other
+ * encodings that are supersets of US-ASCII, and rejects the others, such as UTF-16. Well-formedness is left to the
+ * parser that later reads the records, except for the character data between the records, which no parser sees: the
+ * scanner rejects it unless it is white space.
+ *
+ * <p>
+ * The document may be fed in several consecutive buffers; the state carries over from one to the next.
+ */
+final class RecordScanner {
+
+    /**
+     * Receives the children of the root element, in document order.
+     */
+    interface Handler {
+        /**
+         * @param start the offset of the {@code '<'} starting the record
+         * @param end   the offset right after the {@code '>'} ending the record
+         */
+        void record(long start, long end) throws JAXBException;
+    }
+
+    private static final int CONTENT = 0;
+    private static final int TAG_OPEN = 1;
+    private static final int START_TAG = 2;
+    private static final int END_TAG = 3;
+    private static final int MARKUP_DECL = 4;
+    private static final int COMMENT_OPEN = 5;
+    private static final int COMMENT = 6;
+    private static final int CDATA = 7;
+    private static final int PI = 8;
+    private static final int DOCTYPE = 9;
+    private static final int DONE = 10;
+
+    /** the characters the scanner looks for */
+    private static final String MARKUP = "<>/?!-[]'\"= \t\n\r";
+    /** the start of an XML declaration, up to the value of its encoding */
+    private static final Pattern ENCODING_DECLARATION = Pattern.compile(
+            "<\\?xml\\s+version\\s*=\\s*(?:\"[^\"]*\"|'[^']*')\\s+encoding\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+    /** how far to look for the end of the XML declaration */
+    private static final int MAX_DECLARATION_LENGTH = 1024;
+
+    private final Handler handler;
+
+    private int state = CONTENT;
+    private int depth;
+    /** the quote of the attribute value or literal being read, or 0 */
+    private byte quote;
+    /** the previous byte of the start tag, to recognize empty elements */
+    private byte previous;
+    /**
+     * how much of the delimiter ending the current comment, CDATA section or PI has been seen, or of the one starting a
+     * comment or PI in the internal subset; negative while the rest of {@code "<![CDATA["} is skipped
+     */
+    private int matched;
+    /** nesting of the internal subset of the document type declaration */
+    private int brackets;
+    /** the state to go back to at the end of a comment or PI, which can be in the content or in the internal subset */
+    private int resume;
+    private long tagStart;
+    private long recordStart;
+    private long rootStart = -1;
+    private long headerEnd = -1;
+
+    RecordScanner(Handler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Scans the remaining bytes of the buffer, without changing its position.
+     *
+     * @param buffer the next part of the document
+     * @param offset the offset in the document of the byte at the position of the buffer
+     * @throws JAXBException if the handler fails
+     */
+    void scan(ByteBuffer buffer, long offset) throws JAXBException {
+        int base = buffer.position();
+        int limit = buffer.limit();
+        if (offset == 0) {
+            checkEncoding(buffer);
+        }
+        for (int i = base; i < limit && state != DONE; i++) {
+            byte b = buffer.get(i);
+            long pos = offset + i - base;
+            switch (state) {
+                case CONTENT:
+                    if (b == '<') {
+                        state = TAG_OPEN;
+                        tagStart = pos;
+                    } else if (depth == 1 && !isWhiteSpace(b)) {
+                        throw unexpectedText();
+                    }
+                    break;
+                case TAG_OPEN:
+                    if (b == '/') {
+                        state = END_TAG;
+                    } else if (b == '!') {
+                        state = MARKUP_DECL;
+                    } else if (b == '?') {
+                        state = PI;
+                        resume = CONTENT;
+                        matched = 0;
+                    } else {
+                        state = START_TAG;
+                        quote = 0;
+                        previous = b;
+                    }
+                    break;
+                case START_TAG:
+                    if (quote != 0) {
+                        if (b == quote) {
+                            quote = 0;
+                        }
+                    } else if (b == '"' || b == '\'') {
+                        quote = b;
+                    } else if (b == '>') {
+                        state = CONTENT;
+                        startElement(previous == '/', pos + 1);
+                    }
+                    previous = b;
+                    break;
+                case END_TAG:
+                    if (b == '>') {
+                        state = CONTENT;
+                        endElement(pos + 1);
+                    }
+                    break;
+                case MARKUP_DECL:
+                    if (b == '-') {
+                        state = COMMENT_OPEN;
+                    } else if (b == '[') {
+                        state = CDATA;
+                        // the rest of "CDATA["
+                        matched = -6;
+                    } else {
+                        state = DOCTYPE;
+                        quote = 0;
+                        brackets = 0;
+                        matched = 0;
+                    }
+                    break;
+                case COMMENT_OPEN:
+                    state = COMMENT;
+                    resume = CONTENT;
+                    matched = 0;
+                    break;
+                case COMMENT:
+                    // "-->"
+                    if (b == '-') {
+                        matched = Math.min(matched + 1, 2);
+                    } else if (b == '>' && matched == 2) {
+                        state = resume;
+                    } else {
+                        matched = 0;
+                    }
+                    break;
+                case CDATA:
+                    // "]]>"; between the records, the section is text, which must be white space
+                    if (matched < 0) {
+                        matched++;
+                    } else if (b == ']') {
+                        matched = Math.min(matched + 1, 2);
+                    } else if (b == '>' && matched == 2) {
+                        state = CONTENT;
+                    } else if (depth == 1 && (matched != 0 || !isWhiteSpace(b))) {
+                        throw unexpectedText();
+                    } else {
+                        matched = 0;
+                    }
+                    break;
+                case PI:
+                    if (b == '?') {
+                        matched = 1;
+                    } else if (b == '>' && matched == 1) {
+                        state = resume;
+                    } else {
+                        matched = 0;
+                    }
+                    break;
+                case DOCTYPE:
+                    // "<!--" and "<?" start a comment or a PI of the internal subset, where quotes are not literals
+                    if (quote != 0) {
+                        if (b == quote) {
+                            quote = 0;
+                        }
+                    } else if (b == '<') {
+                        matched = 1;
+                    } else if (b == '?' && matched == 1) {
+                        state = PI;
+                        resume = DOCTYPE;
+                        matched = 0;
+                    } else if ((b == '!' && matched == 1) || (b == '-' && matched >= 2)) {
+                        if (++matched == 4) {
+                            state = COMMENT;
+                            resume = DOCTYPE;
+                            matched = 0;
+                        }
+                    } else {
+                        matched = 0;
+                        if (b == '"' || b == '\'') {
+                            quote = b;
+                        } else if (b == '[') {
+                            brackets++;
+                        } else if (b == ']') {
+                            brackets--;
+                        } else if (b == '>' && brackets == 0) {
+                            state = CONTENT;
+                        }
+                    }
+                    break;
+                default:
+                    throw new AssertionError(state);
+            }
+        }
+    }
+
+    private static boolean isWhiteSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static UnmarshalException unexpectedText() {
+        return new UnmarshalException(Messages.format(Messages.SPLITTER_UNEXPECTED_TEXT));
+    }
+
+    /**
+     * Rejects the documents that are not in an encoding compatible with US-ASCII. After an optional UTF-8 byte order
+     * mark, such a document starts with white space or {@code '<'}, and has no NUL byte, which rules out UTF-16, UTF-32
+     * and EBCDIC whether or not they have a byte order mark; its XML declaration, if any, must not name another
+     * encoding either.
+     */
+    private static void checkEncoding(ByteBuffer buffer) throws UnmarshalException {
+        int start = buffer.position();
+        int limit = buffer.limit();
+        if (limit - start >= 3 && buffer.get(start) == (byte) 0xEF && buffer.get(start + 1) == (byte) 0xBB
+                && buffer.get(start + 2) == (byte) 0xBF) {
+            start += 3;
+        }
+        for (int i = start; i < Math.min(start + 4, limit); i++) {
+            byte b = buffer.get(i);
+            if (b == 0 || (i == start && b != '<' && !isWhiteSpace(b))) {
+                throw unsupportedEncoding();
+            }
+        }
+        String encoding = declaredEncoding(buffer, start, limit);
+        if (encoding != null && !isCompatible(encoding)) {
+            throw unsupportedEncoding();
+        }
+    }
+
+    /**
+     * @return the encoding named by the XML declaration at the specified offset, or null if there is none
+     */
+    private static String declaredEncoding(ByteBuffer buffer, int start, int limit) {
+        StringBuilder declaration = new StringBuilder();
+        for (int i = start; i < Math.min(start + MAX_DECLARATION_LENGTH, limit); i++) {
+            byte b = buffer.get(i);
+            if (b == '>') {
+                Matcher m = ENCODING_DECLARATION.matcher(declaration);
+                return m.lookingAt() ? (m.group(1) != null ? m.group(1) : m.group(2)) : null;
+            }
+            declaration.append((char) (b & 0xFF));
+        }
+        return null;
+    }
+
+    /**
+     * Checks that the encoding writes the markup characters as US-ASCII does; the UTF-16 and UTF-32 names, with or
+     * without a byte order, EBCDIC and the names that Java does not know are all rejected.
+     */
+    private static boolean isCompatible(String encoding) {
+        try {
+            return Arrays.equals(MARKUP.getBytes(Charset.forName(encoding)),
+                    MARKUP.getBytes(StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            // an illegal or unsupported charset name
+            return false;
+        }
+    }
+
+    private static UnmarshalException unsupportedEncoding() {
+        return new UnmarshalException(Messages.format(Messages.SPLITTER_UNSUPPORTED_ENCODING));
+    }
+
+    /**
+     * Checks that the whole root element has been scanned.
+     *
+     * @throws UnmarshalException if the document ended before the end of the root element
+     */
+    void finish() throws UnmarshalException {
+        if (state != DONE) {
+            throw new UnmarshalException(Messages.format(Messages.SPLITTER_UNEXPECTED_EOF));
+        }
+    }
+
+    private void startElement(boolean empty, long end) throws JAXBException {
+        if (depth == 0) {
+            rootStart = tagStart;
+            headerEnd = end;
+            if (empty) {
+                state = DONE;
+            } else {
+                depth = 1;
+            }
+            return;
+        }
+        if (depth == 1) {
+            recordStart = tagStart;
+            if (empty) {
+                handler.record(recordStart, end);
+                return;
+            }
+        }
+        if (!empty) {
+            depth++;
+        }
+    }
+
+    private void endElement(long end) throws JAXBException {
+        depth--;
+        if (depth == 1) {
+            handler.record(recordStart, end);
+        } else if (depth == 0) {
+            state = DONE;
+        }
+    }
+
+    /**
+     * @return the offset of the {@code '<'} starting the root element, or -1 if it has not been seen yet
+     */
+    long getRootStart() {
+        return rootStart;
+    }
+
+    /**
+     * @return the offset right after the start tag of the root element, or -1 if it has not been seen yet
+     */
+    long getHeaderEnd() {
+        return headerEnd;
+    }
+}
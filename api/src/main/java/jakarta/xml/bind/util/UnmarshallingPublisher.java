@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package jakarta.xml.bind.util;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.UnmarshalException;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.internal.AsyncSupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * {@linkplain Flow.Publisher} of the children of the root element of a document, unmarshalled one at a time with
+ * {@linkplain Unmarshaller#unmarshal(XMLStreamReader, Class)}.
+ *
+ * <p>
+ * The document is parsed only as far as the subscriber asks for: each record is unmarshalled when there is demand for
+ * it, and parsing stops as soon as the demand is met until the subscriber {@linkplain Flow.Subscription#request(long)
+ * requests} more. A slow subscriber therefore holds back the parser instead of letting records pile up, and the memory
+ * used stays that of a single record.
+ *
+ * <p>
+ * The records are unmarshalled and delivered on the executor given to the constructor, one task at a time. The
+ * document can be read only once, so the publisher accepts a single subscriber; later subscribers are signalled an
+ * {@linkplain IllegalStateException}. A record that cannot be read is signalled as an {@linkplain UnmarshalException},
+ * or as the {@linkplain JAXBException} thrown by the unmarshaller, and ends the subscription. The reader, and the
+ * stream when one was given, is closed when the subscriber is completed, fails or cancels. A task rejected by the
+ * executor is signalled as the {@linkplain RejectedExecutionException} and ends the subscription
+ * as well. An exception thrown by {@linkplain Flow.Subscriber#onNext(Object)} cancels the subscription and is passed to
+ * the uncaught exception handler of the delivering thread.
+ *
+ * <p>
+ * The following example prints the records of a large document:
+ * <p>
+ * {@snippet :
+ *  Unmarshaller unmarshaller = JAXBContext.newInstance(Item.class).createUnmarshaller();
+ *  UnmarshallingPublisher<Item> publisher = new UnmarshallingPublisher<>(
+ *    unmarshaller, Files.newInputStream(Path.of("items.xml")), Item.class);
+ *
+ *  publisher.subscribe(new Flow.Subscriber<Item>() { ... });
+ *}
+ *
+ * @param <T> the type of the records
+ */
+public class UnmarshallingPublisher<T> implements Flow.Publisher<T> {
+
+    private final Unmarshaller unmarshaller;
+    private final Class<T> declaredType;
+    private final Executor executor;
+    /** the stream the reader is created from on first demand, or null if the reader was given */
+    private final InputStream source;
+    private XMLStreamReader reader;
+    /** whether the reader has been moved into the element containing the records */
+    private boolean started;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Creates a publisher of the records of the document read from the specified stream, unmarshalled and delivered on
+     * the default executor of the {@code unmarshalAsync} methods, which runs every task on a virtual thread when the
+     * runtime has them, and on a daemon thread otherwise, so that reading the stream does not block a shared pool.
+     *
+     * @param unmarshaller the unmarshaller of the records; it must not be used for anything else in the meantime
+     * @param source       the stream to read the document from
+     * @param declaredType appropriate Jakarta XML Binding mapped class to hold the records
+     *
+     * @throws IllegalArgumentException If any parameter is null
+     */
+    public UnmarshallingPublisher(Unmarshaller unmarshaller, InputStream source, Class<T> declaredType) {
+        this(unmarshaller, source, null, declaredType, AsyncSupport.defaultExecutor());
+        if (source == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "source"));
+        }
+    }
+
+    /**
+     * Creates a publisher of the records read from the specified reader, unmarshalled and delivered on the specified
+     * executor.
+     *
+     * <p>
+     * The reader must be at the start of the document, or on the start tag of the element whose children are the
+     * records.
+     *
+     * @param unmarshaller the unmarshaller of the records; it must not be used for anything else in the meantime
+     * @param reader       the reader to read the records from
+     * @param declaredType appropriate Jakarta XML Binding mapped class to hold the records
+     * @param executor     the executor the records are unmarshalled and delivered on
+     *
+     * @throws IllegalArgumentException If any parameter is null
+     */
+    public UnmarshallingPublisher(Unmarshaller unmarshaller, XMLStreamReader reader, Class<T> declaredType,
+            Executor executor) {
+        this(unmarshaller, null, reader, declaredType, executor);
+        if (reader == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "reader"));
+        }
+    }
+
+    private UnmarshallingPublisher(Unmarshaller unmarshaller, InputStream source, XMLStreamReader reader,
+            Class<T> declaredType, Executor executor) {
+        if (unmarshaller == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "unmarshaller"));
+        }
+        if (declaredType == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "declaredType"));
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException(Messages.format(Messages.MUST_NOT_BE_NULL, "executor"));
+        }
+        this.unmarshaller = unmarshaller;
+        this.source = source;
+        this.reader = reader;
+        this.declaredType = declaredType;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException();
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(Messages.format(Messages.PUBLISHER_ALREADY_SUBSCRIBED)));
+            return;
+        }
+        subscriber.onSubscribe(new RecordSubscription(subscriber));
+    }
+
+    /**
+     * Reads the next record, skipping the nil ones since a publisher cannot deliver null.
+     *
+     * @return the record, or null at the end of the element containing the records
+     */
+    private T next() throws JAXBException, XMLStreamException {
+        if (reader == null) {
+            reader = ParallelUnmarshaller.InputFactoryHolder.factory.createXMLStreamReader(source);
+        }
+        if (!started) {
+            started = true;
+            int event = reader.getEventType();
+            while (event != XMLStreamConstants.START_ELEMENT) {
+                // skip the prolog
+                event = reader.next();
+            }
+            reader.next();
+        }
+        // the unmarshaller leaves the reader on the event right after each record
+        while (ParallelUnmarshaller.skipToTag(reader) == XMLStreamConstants.START_ELEMENT) {
+            T record = unmarshaller.unmarshal(reader, declaredType).getValue();
+            if (record != null) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    private void close() {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            // nothing to do with it: the subscriber is already terminated
+        }
+        try {
+            if (source != null) {
+                source.close();
+            }
+        } catch (IOException e) {
+            // likewise
+        }
+    }
+
+    /**
+     * Unmarshals the records as the subscriber requests them. A single drain loop runs at a time; requests made while
+     * it runs, including from within {@code onNext}, are picked up by the running loop.
+     */
+    private final class RecordSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable badRequest;
+        /** only read and written by the thread that brought {@code pending} up from 0 */
+        private boolean done;
+
+        RecordSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException(Messages.format(Messages.MUST_BE_POSITIVE, "n"));
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // no drain loop will run, so this thread terminates the subscription in its place
+                    if (!done) {
+                        terminate();
+                        subscriber.onError(e);
+                    }
+                    pending.set(0);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    if (cancelled) {
+                        terminate();
+                    } else if (badRequest != null) {
+                        terminate();
+                        subscriber.onError(badRequest);
+                    } else {
+                        emit();
+                    }
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (demand.get() > 0 && !cancelled && badRequest == null) {
+                T record;
+                try {
+                    record = next();
+                } catch (XMLStreamException e) {
+                    terminate();
+                    subscriber.onError(new UnmarshalException(e));
+                    return;
+                } catch (JAXBException | RuntimeException e) {
+                    terminate();
+                    subscriber.onError(e);
+                    return;
+                }
+                if (record == null) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                demand.decrementAndGet();
+                try {
+                    subscriber.onNext(record);
+                } catch (RuntimeException e) {
+                    // a subscriber must not throw; treat it as a cancellation, and report the exception where an
+                    // uncaught one would go since there is no caller to report it to
+                    terminate();
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                    return;
+                }
+            }
+        }
+
+        private void terminate() {
+            done = true;
+            close();
+        }
+    }
+}
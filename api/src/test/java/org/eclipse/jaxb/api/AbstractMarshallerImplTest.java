@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.MarshalException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.helpers.AbstractMarshallerImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbstractMarshallerImplTest {
+
+    @Test
+    public void testEncoding() throws Exception {
+        TestMarshaller marshaller = new TestMarshaller();
+        Assertions.assertEquals(StandardCharsets.UTF_8, marshaller.getCharset());
+
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, "ISO-8859-1");
+        Assertions.assertEquals(StandardCharsets.ISO_8859_1, marshaller.getCharset());
+        Assertions.assertEquals("ISO-8859-1", marshaller.getJavaEncoding("ISO-8859-1"));
+
+        // EBCDIC names that are only known through the alias table
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, "EBCDIC-CP-DK");
+        Assertions.assertEquals(Charset.forName("cp277"), marshaller.getCharset());
+        Assertions.assertEquals("cp277", marshaller.getJavaEncoding("EBCDIC-CP-DK"));
+        Assertions.assertEquals("UTF-16", marshaller.getJavaEncoding("UTF-16"));
+
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, "no-such-encoding");
+        Assertions.assertEquals("no-such-encoding", marshaller.getProperty(Marshaller.JAXB_ENCODING));
+        Assertions.assertThrows(UnsupportedEncodingException.class, marshaller::getCharset);
+        Assertions.assertThrows(UnsupportedEncodingException.class,
+                () -> marshaller.getJavaEncoding("no-such-encoding"));
+        Assertions.assertThrows(UnsupportedEncodingException.class, () -> marshaller.getJavaEncoding("bad name!"));
+    }
+
+    @Test
+    public void testMarshalToByteBuffer() throws Exception {
+        TestMarshaller marshaller = new TestMarshaller();
+        String content = "x".repeat(300_000);
+        byte[] expected = ("<a>" + content + "</a>").getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer heap = ByteBuffer.allocate(16).put((byte) '!');
+        ByteBuffer grown = marshaller.marshal(content, heap);
+        Assertions.assertNotSame(heap, grown);
+        Assertions.assertFalse(grown.isDirect());
+        // the replaced buffer is not flipped
+        Assertions.assertEquals(16, heap.limit());
+        Assertions.assertEquals(1 + expected.length, grown.position());
+        grown.flip();
+        Assertions.assertEquals('!', grown.get());
+        byte[] actual = new byte[grown.remaining()];
+        grown.get(actual);
+        Assertions.assertArrayEquals(expected, actual);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        grown = marshaller.marshal(content, direct);
+        Assertions.assertTrue(grown.isDirect());
+        Assertions.assertEquals(expected.length, grown.position());
+
+        ByteBuffer large = ByteBuffer.allocate(expected.length);
+        Assertions.assertSame(large, marshaller.marshal(content, large));
+        Assertions.assertArrayEquals(expected, large.array());
+
+        Assertions.assertThrows(ReadOnlyBufferException.class,
+                () -> marshaller.marshal(content, ByteBuffer.allocate(16).asReadOnlyBuffer()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> marshaller.marshal(content, (ByteBuffer) null));
+    }
+
+    @Test
+    public void testMarshalToChannel() throws Exception {
+        TestMarshaller marshaller = new TestMarshaller();
+        String content = "y".repeat(200_000);
+        byte[] expected = ("<a>" + content + "</a>").getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        marshaller.marshal(content, Channels.newChannel(bytes));
+        Assertions.assertArrayEquals(expected, bytes.toByteArray());
+
+        Path file = Files.createTempFile("marshal", ".xml");
+        try {
+            Files.write(file, new byte[expected.length + 100]);
+            marshaller.marshal(content, file.toFile());
+            Assertions.assertArrayEquals(expected, Files.readAllBytes(file));
+        } finally {
+            Files.delete(file);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> marshaller.marshal(content, (WritableByteChannel) null));
+    }
+
+    @Test
+    public void testMarshalAsync() throws Exception {
+        TestMarshaller marshaller = new TestMarshaller();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Thread caller = Thread.currentThread();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                Assertions.assertNotSame(caller, Thread.currentThread());
+                bytes.write(b);
+            }
+        };
+        marshaller.marshalAsync("async", new StreamResult(out)).toCompletableFuture().get();
+        Assertions.assertEquals("<a>async</a>", bytes.toString(StandardCharsets.UTF_8));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Void> failed = marshaller.marshalAsync("async", new StreamResult(new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException();
+                }
+            }), executor).toCompletableFuture();
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class, failed::get);
+            Assertions.assertInstanceOf(MarshalException.class, e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> marshaller.marshalAsync("async", null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> marshaller.marshalAsync("async", new StreamResult(out), null));
+    }
+
+    private static final class TestMarshaller extends AbstractMarshallerImpl {
+
+        /**
+         * Writes the string value of {@code jaxbElement} as the content of an element, in chunks of varying size.
+         */
+        @Override
+        public void marshal(Object jaxbElement, Result result) throws JAXBException {
+            OutputStream out = ((StreamResult) result).getOutputStream();
+            byte[] xml = ("<a>" + jaxbElement + "</a>").getBytes(StandardCharsets.UTF_8);
+            try {
+                for (int off = 0, chunk = 1; off < xml.length; off += chunk, chunk = chunk * 3 % 100_003) {
+                    if (chunk == 1) {
+                        out.write(xml[off]);
+                    } else {
+                        out.write(xml, off, Math.min(chunk, xml.length - off));
+                    }
+                }
+            } catch (IOException e) {
+                throw new MarshalException(e);
+            }
+        }
+
+        @Override
+        public Charset getCharset() throws UnsupportedEncodingException {
+            return super.getCharset();
+        }
+
+        @Override
+        public String getJavaEncoding(String encoding) throws UnsupportedEncodingException {
+            return super.getJavaEncoding(encoding);
+        }
+    }
+}
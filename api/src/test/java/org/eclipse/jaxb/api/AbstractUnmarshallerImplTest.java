@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.UnmarshalException;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.UnmarshallerHandler;
+import jakarta.xml.bind.helpers.AbstractUnmarshallerImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class AbstractUnmarshallerImplTest {
+
+    @Test
+    public void testUnmarshalByteBuffer() throws Exception {
+        TestUnmarshaller unmarshaller = new TestUnmarshaller();
+        String content = "z".repeat(100_000);
+        byte[] xml = ("<a>" + content + "</a>").getBytes(StandardCharsets.UTF_8);
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(xml), ByteBuffer.allocateDirect(xml.length)}) {
+            if (buffer.isDirect()) {
+                buffer.put(xml).flip();
+            }
+            Assertions.assertEquals("{}a a:" + content + "/", unmarshaller.unmarshal(buffer));
+            Assertions.assertEquals(0, buffer.position());
+            Assertions.assertEquals(xml.length, buffer.limit());
+        }
+
+        // only the bytes between position and limit are parsed
+        ByteBuffer framed = ByteBuffer.allocate(xml.length + 4);
+        framed.put("[[".getBytes(StandardCharsets.US_ASCII)).put(xml).put("]]".getBytes(StandardCharsets.US_ASCII));
+        framed.position(2).limit(2 + xml.length);
+        Assertions.assertEquals("{}a a:" + content + "/", unmarshaller.unmarshal(framed));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> unmarshaller.unmarshal((ByteBuffer) null));
+    }
+
+    @Test
+    public void testUnmarshalPath() throws Exception {
+        TestUnmarshaller unmarshaller = new TestUnmarshaller();
+        Path file = Files.createTempFile("unmarshal", ".xml");
+        try {
+            Files.writeString(file, "<b>text</b>");
+            for (boolean memoryMapped : new boolean[]{false, true}) {
+                Assertions.assertEquals("{}b b:text/", unmarshaller.unmarshal(file, memoryMapped));
+                Assertions.assertEquals(file.toUri().toString(), unmarshaller.systemId);
+            }
+            Files.delete(file);
+            Assertions.assertThrows(JAXBException.class, () -> unmarshaller.unmarshal(file, true));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> unmarshaller.unmarshal((Path) null, false));
+    }
+
+    @Test
+    public void testUnmarshalStAX() throws Exception {
+        String xml = "<?xml version='1.0'?><!-- prolog --><p:root xmlns:p='urn:p' xmlns='urn:d' p:x='1' y='2'>"
+                + "text<child xmlns:q='urn:q'><q:leaf/><![CDATA[<cdata>]]></child><?pi data?>&amp;</p:root>";
+        TestUnmarshaller unmarshaller = new TestUnmarshaller();
+        Object expected = unmarshaller.unmarshal(new StringReader(xml));
+        Assertions.assertEquals("[p=urn:p][=urn:d]{urn:p}root p:root:[urn:p p:x=1][ y=2]text"
+                + "[q=urn:q]{urn:d}child child:{urn:q}leaf q:leaf:/<cdata>/[/q]<?pi data?>&/[/p][/]", expected);
+
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        Assertions.assertEquals(expected, unmarshaller.unmarshal(factory.createXMLStreamReader(new StringReader(xml))));
+        Assertions.assertEquals(expected, unmarshaller.unmarshal(factory.createXMLEventReader(new StringReader(xml))));
+
+        unmarshaller.useStAX();
+        Assertions.assertEquals(expected, unmarshaller.unmarshal(new StreamSource(new StringReader(xml))));
+        Assertions.assertEquals(expected, unmarshaller.unmarshal(new StreamSource(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))));
+
+        // the readers are left right after the end of the unmarshalled element
+        String fragments = "<list><a>1</a><b>2</b></list>";
+        XMLStreamReader streamReader = factory.createXMLStreamReader(new StringReader(fragments));
+        streamReader.nextTag();
+        streamReader.nextTag();
+        Assertions.assertEquals("{}a a:1/", unmarshaller.unmarshal(streamReader));
+        Assertions.assertEquals("b", streamReader.getLocalName());
+        Assertions.assertEquals("{}b b:2/", unmarshaller.unmarshal(streamReader));
+        Assertions.assertEquals(XMLStreamConstants.END_ELEMENT, streamReader.getEventType());
+
+        XMLEventReader eventReader = factory.createXMLEventReader(new StringReader(fragments));
+        eventReader.nextTag();
+        Assertions.assertEquals("{}a a:1/", unmarshaller.unmarshal(eventReader));
+        Assertions.assertEquals("{}b b:2/", unmarshaller.unmarshal(eventReader));
+        Assertions.assertTrue(eventReader.peek().isEndElement());
+        Assertions.assertThrows(IllegalStateException.class, () -> unmarshaller.unmarshal(eventReader));
+
+        // an element read from within a document gets the bindings it uses from its ancestors
+        String nested = "<!DOCTYPE list [<!ENTITY e 'ent'>]><list xmlns='urn:d' xmlns:p='urn:p' xmlns:u='urn:u'>"
+                + "<a xmlns:x='urn:x' x:type='p:T'>&e;</a><b><c xmlns:p='urn:q'>p:V</c><c>p:V</c></b></list>";
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        streamReader = factory.createXMLStreamReader(new StringReader(nested));
+        streamReader.next();
+        streamReader.nextTag();
+        streamReader.nextTag();
+        String a = "[=urn:d][p=urn:p][x=urn:x]{urn:d}a a:[urn:x x:type=p:T]ent/[/x][/][/p]";
+        String b = "[=urn:d]{urn:d}b b:[p=urn:q]{urn:d}c c:p:V/[/p][p=urn:p]{urn:d}c c:p:V/[/p]/[/]";
+        Assertions.assertEquals(a, unmarshaller.unmarshal(streamReader));
+        Assertions.assertEquals(b, unmarshaller.unmarshal(streamReader));
+        XMLEventReader nestedEvents = factory.createXMLEventReader(new StringReader(nested));
+        nestedEvents.nextEvent();
+        nestedEvents.nextEvent();
+        nestedEvents.nextTag();
+        Assertions.assertEquals(a, unmarshaller.unmarshal(nestedEvents));
+        Assertions.assertEquals(b, unmarshaller.unmarshal(nestedEvents));
+        // the text of an element is resolved in its own scope, not in that of its next child
+        String shadowed = "<list xmlns:p='urn:p'><b>p:V<c xmlns:p='urn:q'>p:W</c></b></list>";
+        streamReader = factory.createXMLStreamReader(new StringReader(shadowed));
+        streamReader.nextTag();
+        streamReader.nextTag();
+        Assertions.assertEquals("[p=urn:p]{}b b:p:V[p=urn:q]{}c c:p:W/[/p]/[/p]", unmarshaller.unmarshal(streamReader));
+        nestedEvents = factory.createXMLEventReader(new StringReader(shadowed));
+        nestedEvents.nextTag();
+        Assertions.assertEquals("[p=urn:p]{}b b:p:V[p=urn:q]{}c c:p:W/[/p]/[/p]", unmarshaller.unmarshal(nestedEvents));
+        Assertions.assertThrows(UnmarshalException.class, () -> unmarshaller.unmarshal(factory.createXMLStreamReader(
+                new StringReader("<!DOCTYPE a [<!ENTITY e '<b/>'>]><a>&e;</a>"))));
+
+        Assertions.assertThrows(UnmarshalException.class,
+                () -> unmarshaller.unmarshal(factory.createXMLStreamReader(new StringReader("<a><b></a>"))));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> unmarshaller.unmarshal((XMLStreamReader) null));
+    }
+
+    @Test
+    public void testUnmarshalAll() throws Exception {
+        TestUnmarshaller unmarshaller = new TestUnmarshaller();
+        String[] documents = {"<a>1</a>", "<b>2</b", "<c/>"};
+        List<ByteBuffer> buffers = Arrays.stream(documents)
+                .map(d -> ByteBuffer.wrap(d.getBytes(StandardCharsets.UTF_8))).toList();
+        List<InputStream> streams = Arrays.stream(documents)
+                .map(d -> (InputStream) new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8))).toList();
+
+        for (Unmarshaller.BatchResult result
+                : new Unmarshaller.BatchResult[]{unmarshaller.unmarshalAll(buffers), unmarshaller.unmarshalAll(streams)}) {
+            Assertions.assertEquals(3, result.size());
+            Assertions.assertTrue(result.hasErrors());
+            Assertions.assertEquals("{}a a:1/", result.getResult(0));
+            Assertions.assertNull(result.getError(0));
+            Assertions.assertNull(result.getResult(1));
+            Assertions.assertInstanceOf(UnmarshalException.class, result.getError(1));
+            Assertions.assertEquals("{}c c:/", result.getResult(2));
+            Assertions.assertNull(result.getError(2));
+        }
+        Assertions.assertEquals(0, buffers.get(0).position());
+
+        Unmarshaller.BatchResult empty = unmarshaller.unmarshalAll(List.<ByteBuffer>of());
+        Assertions.assertEquals(0, empty.size());
+        Assertions.assertFalse(empty.hasErrors());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> unmarshaller.unmarshalAll((List<ByteBuffer>) null));
+        // every document goes through unmarshal(XMLReader, InputSource), and a null document only fails its own slot
+        int calls = unmarshaller.calls;
+        ErrorHandler errors = new DefaultHandler();
+        unmarshaller.reader().setErrorHandler(errors);
+        Unmarshaller.BatchResult withNull = unmarshaller.unmarshalAll(Arrays.asList(
+                new ByteArrayInputStream("<b/>".getBytes(StandardCharsets.UTF_8)), null,
+                new ByteArrayInputStream("<d/>".getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertEquals(calls + 2, unmarshaller.calls);
+        Assertions.assertSame(errors, unmarshaller.reader().getErrorHandler());
+        Assertions.assertEquals("{}b b:/", withNull.getResult(0));
+        Assertions.assertInstanceOf(JAXBException.class, withNull.getError(1));
+        Assertions.assertEquals("{}d d:/", withNull.getResult(2));
+    }
+
+    @Test
+    public void testUnmarshalAsync() throws Exception {
+        TestUnmarshaller unmarshaller = new TestUnmarshaller();
+        Assertions.assertEquals("{}a a:1/", unmarshaller.unmarshalAsync(new StreamSource(new StringReader("<a>1</a>")))
+                .toCompletableFuture().get());
+
+        Executor direct = Runnable::run;
+        Assertions.assertEquals("{}b b:2/",
+                unmarshaller.unmarshalAsync(new StreamSource(new StringReader("<b>2</b>")), direct)
+                        .toCompletableFuture().join());
+        CompletionException e = Assertions.assertThrows(CompletionException.class,
+                () -> unmarshaller.unmarshalAsync(new StreamSource(new StringReader("<b>")), direct)
+                        .toCompletableFuture().join());
+        Assertions.assertInstanceOf(UnmarshalException.class, e.getCause());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> unmarshaller.unmarshalAsync(null));
+    }
+
+    /**
+     * Returns a trace of the SAX events: element names followed by ':', text, '/' for end tags, and prefix mappings
+     * and attributes in brackets.
+     */
+    private static final class TestUnmarshaller extends AbstractUnmarshallerImpl {
+
+        private String systemId;
+        private int calls;
+
+        @Override
+        protected Object unmarshal(XMLReader reader, InputSource source) throws JAXBException {
+            systemId = source.getSystemId();
+            calls++;
+            TraceHandler handler = new TraceHandler();
+            reader.setContentHandler(handler);
+            try {
+                reader.parse(source);
+            } catch (IOException | SAXException e) {
+                throw new UnmarshalException(e);
+            }
+            return handler.getResult();
+        }
+
+        @Override
+        public Object unmarshal(Node node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UnmarshallerHandler getUnmarshallerHandler() {
+            return new TraceHandler();
+        }
+
+        XMLReader reader() throws JAXBException {
+            return getXMLReader();
+        }
+
+        void useStAX() {
+            setStAXForStreamSource(true);
+        }
+    }
+
+    private static final class TraceHandler extends DefaultHandler implements UnmarshallerHandler {
+
+        private final StringBuilder trace = new StringBuilder();
+        private boolean ended;
+
+        @Override
+        public void startPrefixMapping(String prefix, String uri) {
+            trace.append("[").append(prefix).append('=').append(uri).append(']');
+        }
+
+        @Override
+        public void endPrefixMapping(String prefix) {
+            trace.append("[/").append(prefix).append(']');
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            trace.append('{').append(uri).append('}').append(localName).append(' ').append(qName).append(':');
+            for (int i = 0; i < attributes.getLength(); i++) {
+                trace.append('[').append(attributes.getURI(i)).append(' ').append(attributes.getQName(i))
+                        .append('=').append(attributes.getValue(i)).append(']');
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            trace.append('/');
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            trace.append(ch, start, length);
+        }
+
+        @Override
+        public void processingInstruction(String target, String data) {
+            trace.append("<?").append(target).append(' ').append(data).append("?>");
+        }
+
+        @Override
+        public void startDocument() {
+            trace.setLength(0);
+            ended = false;
+        }
+
+        @Override
+        public void endDocument() {
+            ended = true;
+        }
+
+        @Override
+        public Object getResult() {
+            if (!ended) {
+                throw new IllegalStateException();
+            }
+            return trace.toString();
+        }
+    }
+}
@@ -12,6 +12,37 @@
 package org.eclipse.jaxb.api;
 
 import jakarta.xml.bind.DatatypeConverter;
+import jakarta.xml.bind.DatatypeConverterInterface;
+import jakarta.xml.bind.annotation.adapters.HexBinaryAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SimpleTimeZone;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.function.Function;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -99,9 +130,520 @@ public class DatatypeConverterTest {
         Assertions.assertEquals("this is an example", new String(DatatypeConverter.parseBase64Binary("dGhpcyBpcyB hbiBleGFtcGxl")));
         Assertions.assertEquals("this is an example", new String(DatatypeConverter.parseBase64Binary("dGhpcyBpcyB\nhbiBleGFtcGxl")));
         Assertions.assertEquals("this is an example", new String(DatatypeConverter.parseBase64Binary("dGhpcyBpcyB\thbiBleGFtcGxl")));
+        Assertions.assertEquals("this is an example", new String(DatatypeConverter.parseBase64Binary("dGhpcyBpcyB\u00a0hbiBleGFtcGxl\u00a0")));
 
         Assertions.assertNotEquals("Hello, world!", new String(DatatypeConverter.parseBase64Binary("SGVsbG8sIJdvcmxkIQ==")));
 
         Assertions.assertEquals("Hello, world!", new String(DatatypeConverter.parseBase64Binary("SGVsbG8sIHdvcmxkIQ==")));
+
+        Random random = new Random(7);
+        for (int size = 0; size < 200; size++) {
+            byte[] data = new byte[size];
+            random.nextBytes(data);
+            String text = Base64.getEncoder().encodeToString(data);
+            Assertions.assertEquals(text, DatatypeConverter.printBase64Binary(data));
+            Assertions.assertArrayEquals(data, DatatypeConverter.parseBase64Binary(text));
+            Assertions.assertArrayEquals(data, DatatypeConverter.parseBase64Binary(Base64.getMimeEncoder(8, new byte[]{'\n'}).encodeToString(data)));
+            Assertions.assertArrayEquals(data, DatatypeConverter.parseBase64Binary(Base64.getMimeEncoder().encodeToString(data)));
+            Assertions.assertArrayEquals(data, DatatypeConverter.parseBase64Binary(" \n" + text.replace("==", " = =")));
+        }
+    }
+
+    @Test
+    public void testFloatingPoint() {
+        String[] texts = {
+                "0", "-0", "+0.0", "1", "-1", "1.5", ".5", "5.", "+.5", "0.1", "0.3", "123456789012345678", "9007199254740993",
+                "1e22", "1e23", "1e-22", "1.7976931348623157E308", "4.9E-324", "2.2250738585072014E-308", "0.000001",
+                "3.4028235E38", "1.4E-45", "16777217", "1e10", "1E-10", "0x1p3", " 42 ", "\t-7.25\n", "1e+5", "00012.500"
+        };
+        for (String text : texts) {
+            String trimmed = text.trim();
+            Assertions.assertEquals(Double.doubleToRawLongBits(Double.parseDouble(trimmed)),
+                    Double.doubleToRawLongBits(DatatypeConverter.parseDouble(text)), text);
+            Assertions.assertEquals(Float.floatToRawIntBits(Float.parseFloat(trimmed)),
+                    Float.floatToRawIntBits(DatatypeConverter.parseFloat(text)), text);
+        }
+        for (String text : new String[]{"", "-", ".", "e5", "1e", "1.2.3", "1f", "1d", "--1", "1 2", "Infinity"}) {
+            Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseDouble(text), text);
+            Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseFloat(text), text);
+        }
+
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            // short decimals, which take the fast path
+            String text = (random.nextBoolean() ? "-" : "") + random.nextInt(1_000_000) + "." + random.nextInt(1000)
+                    + (random.nextBoolean() ? "" : "e" + (random.nextInt(40) - 20));
+            Assertions.assertEquals(Double.doubleToRawLongBits(Double.parseDouble(text)),
+                    Double.doubleToRawLongBits(DatatypeConverter.parseDouble(text)), text);
+            Assertions.assertEquals(Float.floatToRawIntBits(Float.parseFloat(text)),
+                    Float.floatToRawIntBits(DatatypeConverter.parseFloat(text)), text);
+
+            double d = random.nextBoolean() ? Double.longBitsToDouble(random.nextLong()) : random.nextInt(20_000_000) - 10_000_000;
+            if (!Double.isNaN(d) && !Double.isInfinite(d)) {
+                Assertions.assertEquals(Double.toString(d), DatatypeConverter.printDouble(d));
+                Assertions.assertEquals(Double.doubleToRawLongBits(d),
+                        Double.doubleToRawLongBits(DatatypeConverter.parseDouble(DatatypeConverter.printDouble(d))));
+            }
+            float f = random.nextBoolean() ? Float.intBitsToFloat(random.nextInt()) : random.nextInt(20_000_000) - 10_000_000;
+            if (!Float.isNaN(f) && !Float.isInfinite(f)) {
+                Assertions.assertEquals(Float.toString(f), DatatypeConverter.printFloat(f));
+                Assertions.assertEquals(Float.floatToRawIntBits(f),
+                        Float.floatToRawIntBits(DatatypeConverter.parseFloat(DatatypeConverter.printFloat(f))));
+            }
+        }
+        Assertions.assertEquals("-0.0", DatatypeConverter.printDouble(-0.0));
+        Assertions.assertEquals("0.0", DatatypeConverter.printDouble(0.0));
+        Assertions.assertEquals("-0.0", DatatypeConverter.printFloat(-0.0f));
+        Assertions.assertEquals("9999999.0", DatatypeConverter.printDouble(9999999));
+        Assertions.assertEquals("1.0E7", DatatypeConverter.printDouble(10_000_000));
+        Assertions.assertEquals("INF", DatatypeConverter.printDouble(Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, DatatypeConverter.parseDouble(" -INF "));
+        Assertions.assertTrue(Float.isNaN(DatatypeConverter.parseFloat("NaN")));
+    }
+
+    @Test
+    public void testDecimal() {
+        String[] values = {
+                "0", "-0", "+0", "0.00", "-0.00", "1.", ".5", "+.5", "-.5", "000123.4500", "12345678901234567.8",
+                "123456789012345678", "-123456789012345678", "1234567890123456789", "9223372036854775807",
+                "-9223372036854775808", "99999999999999999999.99", "1e3", "1.5E-7", "0.0000001"
+        };
+        for (String value : values) {
+            BigDecimal expected = new BigDecimal(value);
+            BigDecimal actual = DatatypeConverter.parseDecimal(" " + value + "\n");
+            Assertions.assertEquals(expected, actual, value);
+            Assertions.assertEquals(expected.toPlainString(), DatatypeConverter.printDecimal(actual), value);
+        }
+        for (String value : new String[] {"-", "+", ".", "1..2", "1-", "--1", "+-1", "1 2", "0x10"}) {
+            Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseDecimal(value), value);
+        }
+        Assertions.assertNull(DatatypeConverter.parseDecimal(" "));
+        Assertions.assertEquals("0.0000001", DatatypeConverter.printDecimal(new BigDecimal("1E-7")));
+        Assertions.assertEquals("1200", DatatypeConverter.printDecimal(new BigDecimal("1.2E+3")));
+    }
+
+    @Test
+    public void testParseLong() {
+        Assertions.assertEquals(42L, DatatypeConverter.parseLong(" +42\n"));
+        Assertions.assertEquals(Long.MIN_VALUE, DatatypeConverter.parseLong("\t-9223372036854775808"));
+        Assertions.assertEquals(Long.MAX_VALUE, DatatypeConverter.parseLong("9223372036854775807 "));
+        for (String value : new String[] {"", " ", "+", "+-1", "1 2", "9223372036854775808", "1.0", "\u0661"}) {
+            Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseLong(value), value);
+        }
+    }
+
+    @Test
+    public void testInteger() {
+        String[] values = {
+                "0", "-0", "+0", "007", "-42", "123456789012345678", "-123456789012345678", "1234567890123456789",
+                "9223372036854775807", "-9223372036854775808", "9223372036854775808", "123456789012345678901234567890"
+        };
+        for (String value : values) {
+            BigInteger expected = new BigInteger(value);
+            BigInteger actual = DatatypeConverter.parseInteger("\t" + value + " ");
+            Assertions.assertEquals(expected, actual, value);
+            Assertions.assertEquals(expected.toString(), DatatypeConverter.printInteger(actual), value);
+        }
+        for (String value : new String[] {"", "-", "+", "1.0", "+-1", "1 2", "1e3"}) {
+            Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseInteger(value), value);
+        }
+    }
+
+    @Test
+    public void testLists() throws Exception {
+        Assertions.assertArrayEquals(new int[0], DatatypeConverter.parseIntList(""));
+        Assertions.assertArrayEquals(new int[0], DatatypeConverter.parseIntList(" \t\r\n "));
+        Assertions.assertArrayEquals(new int[]{1, -2, 3, Integer.MAX_VALUE, Integer.MIN_VALUE},
+                DatatypeConverter.parseIntList(" 1\t-2\r\n+3  2147483647 -2147483648\n"));
+        Assertions.assertArrayEquals(new long[]{1, Long.MIN_VALUE, 42},
+                DatatypeConverter.parseLongList("1 -9223372036854775808 42"));
+        Assertions.assertArrayEquals(new double[]{1.5, Double.NaN, Double.NEGATIVE_INFINITY, 1e-300},
+                DatatypeConverter.parseDoubleList("1.5 NaN\n-INF 1e-300 "));
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseIntList("1 x 3"));
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseIntList("2147483648"));
+        // only ASCII digits, as for a single value
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseInt("\u0661"));
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseIntList("1 \u0661"));
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseLongList("\u0661"));
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseLongList("1 - +"));
+        Assertions.assertThrows(NumberFormatException.class,
+                () -> DatatypeConverter.parseLongList("9223372036854775808"));
+        Assertions.assertArrayEquals(new int[]{Integer.MIN_VALUE, 0}, DatatypeConverter.parseIntList("-2147483648 -0"));
+        Assertions.assertThrows(NumberFormatException.class, () -> DatatypeConverter.parseDoubleList("1 2f"));
+
+        StringBuilder sb = new StringBuilder();
+        DatatypeConverter.printIntList(new int[]{1, -2, 3}, sb);
+        Assertions.assertEquals("1 -2 3", sb.toString());
+
+        int[] many = new int[10_000];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = i * 31 - 5000;
+        }
+        StringWriter writer = new StringWriter();
+        DatatypeConverter.printIntList(many, writer);
+        Assertions.assertArrayEquals(many, DatatypeConverter.parseIntList(writer.toString()));
+
+        writer = new StringWriter();
+        DatatypeConverter.printLongList(new long[]{Long.MAX_VALUE, 0}, writer);
+        Assertions.assertEquals("9223372036854775807 0", writer.toString());
+
+        writer = new StringWriter();
+        DatatypeConverter.printDoubleList(new double[]{0.1, Double.NaN, Double.POSITIVE_INFINITY, -0.0}, writer);
+        Assertions.assertEquals("0.1 NaN INF -0.0", writer.toString());
+
+        writer = new StringWriter();
+        DatatypeConverter.printIntList(new int[0], writer);
+        Assertions.assertEquals("", writer.toString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.printIntList(null, new StringBuilder()));
+    }
+
+    @Test
+    public void testHexBinary() throws Exception {
+        byte[] all = new byte[256];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = (byte) i;
+        }
+        String text = DatatypeConverter.printHexBinary(all);
+        Assertions.assertEquals(HexFormat.of().withUpperCase().formatHex(all), text);
+        Assertions.assertArrayEquals(all, DatatypeConverter.parseHexBinary(text));
+        Assertions.assertArrayEquals(all, DatatypeConverter.parseHexBinary(text.toLowerCase()));
+        Assertions.assertArrayEquals(all, new HexBinaryAdapter().unmarshal(" " + text + "\n"));
+        Assertions.assertEquals(text, new HexBinaryAdapter().marshal(all));
+
+        Assertions.assertArrayEquals(new byte[0], DatatypeConverter.parseHexBinary(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.parseHexBinary("123"));
+        for (String invalid : new String[]{"0G", "G0", "0/", "0:", "0@", "0`", "0g", "0\u0130", "0\u0131"}) {
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> DatatypeConverter.parseHexBinary(invalid), invalid);
+            Assertions.assertTrue(e.getMessage().contains("'" + invalid.charAt(invalid.charAt(0) == '0' ? 1 : 0) + "'"),
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void testHexBinaryStreams() throws Exception {
+        Random random = new Random(42);
+        for (int size : new int[]{0, 1, 2, 2048, 2049, 10_000}) {
+            byte[] data = new byte[size];
+            random.nextBytes(data);
+            String text = DatatypeConverter.printHexBinary(data);
+
+            StringWriter writer = new StringWriter();
+            try (OutputStream out = DatatypeConverter.newHexBinaryOutputStream(writer)) {
+                for (int off = 0; off < size; off += 7) {
+                    out.write(data, off, Math.min(7, size - off));
+                }
+            }
+            Assertions.assertEquals(text, writer.toString());
+
+            String wrapped = " " + text.replaceAll("(.{64})", "$1\r\n") + "\n";
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            try (InputStream in = DatatypeConverter.newHexBinaryInputStream(new StringReader(wrapped))) {
+                byte[] buf = new byte[5];
+                int n;
+                while ((n = in.read(buf)) != -1) {
+                    decoded.write(buf, 0, n);
+                }
+            }
+            Assertions.assertArrayEquals(data, decoded.toByteArray());
+        }
+
+        InputStream odd = DatatypeConverter.newHexBinaryInputStream(new StringReader("ABC"));
+        Assertions.assertEquals(0xAB, odd.read());
+        Assertions.assertThrows(CharConversionException.class, odd::read);
+        InputStream illegal = DatatypeConverter.newHexBinaryInputStream(new StringReader("AB-C"));
+        Assertions.assertThrows(CharConversionException.class, () -> illegal.readAllBytes());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.newHexBinaryInputStream(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.newHexBinaryOutputStream(null));
+    }
+
+    @Test
+    public void testBase64ToBuffer() {
+        String[] texts = {"", "Zg==", "Zm8=", "Zm9v", "Zm9vYg==", "dGhpcyBpcyB hbiBleGFtcGxl", "dGhpcyBpcyB\nhbiBleGFtcGxl"};
+        for (String text : texts) {
+            byte[] expected = DatatypeConverter.parseBase64Binary(text);
+            for (ByteBuffer dst : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+                dst.position(3);
+                Assertions.assertEquals(expected.length, DatatypeConverter.parseBase64Binary(text, dst));
+                Assertions.assertEquals(3 + expected.length, dst.position());
+                byte[] actual = new byte[expected.length];
+                dst.flip().position(3);
+                dst.get(actual);
+                Assertions.assertArrayEquals(expected, actual);
+            }
+        }
+
+        // longer than the block the text is decoded through
+        byte[] data = new byte[10_000];
+        new Random(7).nextBytes(data);
+        ByteBuffer large = ByteBuffer.allocateDirect(data.length);
+        Assertions.assertEquals(data.length, DatatypeConverter.parseBase64Binary(Base64.getMimeEncoder().encodeToString(data), large));
+        byte[] decoded = new byte[data.length];
+        large.flip().get(decoded);
+        Assertions.assertArrayEquals(data, decoded);
+
+        ByteBuffer small = ByteBuffer.allocate(2);
+        Assertions.assertThrows(BufferOverflowException.class, () -> DatatypeConverter.parseBase64Binary("Zm9v", small));
+        Assertions.assertEquals(0, small.position());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DatatypeConverter.parseBase64Binary("Qxx==", ByteBuffer.allocate(64)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DatatypeConverter.parseBase64Binary("dGhpcyBpcyB\nhbiBleGFtcGxl==", ByteBuffer.allocate(64)));
+    }
+
+    @Test
+    public void testBase64Streams() throws Exception {
+        Random random = new Random(42);
+        for (int size : new int[]{0, 1, 2, 3, 4, 5, 1000, 3 * 1024, 100_000}) {
+            byte[] data = new byte[size];
+            random.nextBytes(data);
+            String text = DatatypeConverter.printBase64Binary(data);
+
+            StringWriter writer = new StringWriter();
+            try (OutputStream out = DatatypeConverter.newBase64BinaryOutputStream(writer)) {
+                // odd sized writes to exercise the held back bytes
+                for (int off = 0; off < size; off += 7) {
+                    out.write(data, off, Math.min(7, size - off));
+                }
+            }
+            Assertions.assertEquals(text, writer.toString());
+
+            String wrapped = text.replaceAll("(.{76})", "$1\r\n");
+            for (String input : new String[]{text, wrapped}) {
+                ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+                try (InputStream in = DatatypeConverter.newBase64BinaryInputStream(new StringReader(input))) {
+                    byte[] buf = new byte[5];
+                    int n;
+                    while ((n = in.read(buf)) != -1) {
+                        decoded.write(buf, 0, n);
+                    }
+                }
+                Assertions.assertArrayEquals(data, decoded.toByteArray());
+                Assertions.assertArrayEquals(DatatypeConverter.parseBase64Binary(input), decoded.toByteArray());
+            }
+        }
+
+        InputStream in = DatatypeConverter.newBase64BinaryInputStream(new StringReader("Zm9v YmE="));
+        Assertions.assertEquals('f', in.read());
+        Assertions.assertEquals('o', in.read());
+        Assertions.assertEquals('o', in.read());
+        Assertions.assertEquals('b', in.read());
+        Assertions.assertEquals('a', in.read());
+        Assertions.assertEquals(-1, in.read());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.newBase64BinaryInputStream(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.newBase64BinaryOutputStream(null));
+    }
+
+    @Test
+    public void testParseDateTime() throws Exception {
+        String[] values = {
+                "2024-02-29T12:34:56", "2024-02-29T12:34:56Z", "2024-02-29T12:34:56.7+02:00",
+                "2024-02-29T12:34:56.789-05:30", "2024-02-29T12:34:56.78912345+14:00", "1970-01-01T00:00:00.000Z",
+                "-0044-03-15T12:00:00Z", "-0004-02-29T00:00:00", "0001-01-01T00:00:00-00:00",
+                "2024-12-31T23:59:59.999-14:00", "2024-06-30T10:00:00+01:05",
+                // general path
+                "12024-02-29T12:34:56Z", "2024-02-29T24:00:00Z", "2024-02-29T23:59:60Z", "2024-02-29T12:34:56+01:75",
+                "0000-01-01T00:00:00",
+                // invalid
+                "2023-02-29T12:34:56", "2024-13-01T00:00:00", "2024-01-01T", "2024-01-01T12:00", "2024-01-01T12:00:00.",
+                "2024-01-01T12:00:00+15:00", "2024-01-01T12:00:00+1:00", "2024-01-01T12:00:00ZZ", "24-01-01T12:00:00",
+                "2024-1-01T12:00:00", "2024-01-01 12:00:00"
+        };
+        for (String value : values) {
+            assertSameCalendar(value, DatatypeConverter::parseDateTime);
+        }
+        Assertions.assertEquals(
+                DatatypeFactory.newInstance().newXMLGregorianCalendar("2024-02-29T12:34:56Z").toGregorianCalendar(),
+                DatatypeConverter.parseDateTime(" 2024-02-29T12:34:56Z\n"));
+    }
+
+    @Test
+    public void testParseDate() throws Exception {
+        String[] values = {
+                "2024-02-29", "2024-02-29Z", "2024-02-29+02:00", "2024-02-29-12:00", "-2020-02-29", "1999-12-31",
+                // general path
+                "10000-01-01", "2024-02", "2024", "--02-29",
+                // invalid
+                "2023-02-29", "2024-04-31", "2024-00-10", "2024-02-29X", " 2024-02-29", "2024-02-29T"
+        };
+        for (String value : values) {
+            assertSameCalendar(value, DatatypeConverter::parseDate);
+        }
+    }
+
+    @Test
+    public void testParseTime() throws Exception {
+        String[] values = {
+                "00:00:00", "23:59:59", "12:34:56.5", "12:34:56.05Z", "12:34:56.123456-08:00", "01:02:03+00:00",
+                // general path
+                "24:00:00",
+                // invalid
+                "24:00:01", "12:60:00", "12:34", "12:34:56+", "12:34:56.Z", "1:02:03", "12:34:56 "
+        };
+        for (String value : values) {
+            assertSameCalendar(value, DatatypeConverter::parseTime);
+        }
+    }
+
+    @Test
+    public void testPrintTimeZone() {
+        TimeZone[] zones = {
+                TimeZone.getTimeZone("Europe/Paris"), TimeZone.getTimeZone("America/New_York"),
+                TimeZone.getTimeZone("Asia/Kolkata"), TimeZone.getTimeZone("GMT-03:30"), TimeZone.getTimeZone("UTC"),
+                new SimpleTimeZone(2 * 3600 * 1000, "Europe/Paris")
+        };
+        // every three hours across two years, which includes the instants right around each transition
+        long start = 1711846800000L - 366L * 24 * 3600 * 1000;
+        for (TimeZone zone : zones) {
+            for (long time = start; time < start + 2L * 366 * 24 * 3600 * 1000; time += 3 * 3600 * 1000) {
+                for (long delta = -1; delta <= 1; delta++) {
+                    Calendar cal = new GregorianCalendar(zone);
+                    cal.setTimeInMillis(time + delta);
+                    String printed = DatatypeConverter.printDateTime(cal);
+                    Assertions.assertTrue(printed.endsWith(offset(zone.getOffset(time + delta))),
+                            zone.getID() + " " + (time + delta) + " " + printed);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testQName() {
+        Map<String, String> bindings = new HashMap<>();
+        NamespaceContext nsc = new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(String prefix) {
+                return bindings.get(prefix);
+            }
+
+            @Override
+            public String getPrefix(String namespaceURI) {
+                for (Map.Entry<String, String> e : bindings.entrySet()) {
+                    if (e.getValue().equals(namespaceURI)) {
+                        return e.getKey();
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public Iterator<String> getPrefixes(String namespaceURI) {
+                return Collections.singleton(getPrefix(namespaceURI)).iterator();
+            }
+        };
+        bindings.put("p", "urn:a");
+        QName first = DatatypeConverter.parseQName(" p:item ", nsc);
+        Assertions.assertEquals(new QName("urn:a", "item", "p"), first);
+        Assertions.assertSame(first, DatatypeConverter.parseQName("p:item", nsc));
+        Assertions.assertEquals("p:item", DatatypeConverter.printQName(first, nsc));
+        Assertions.assertSame(DatatypeConverter.printQName(first, nsc), DatatypeConverter.printQName(first, nsc));
+
+        // a rebound prefix must not see the cached value
+        bindings.put("p", "urn:b");
+        Assertions.assertEquals(new QName("urn:b", "item", "p"), DatatypeConverter.parseQName("p:item", nsc));
+        bindings.remove("p");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DatatypeConverter.parseQName("p:item", nsc));
+
+        Assertions.assertEquals(new QName("", "item"), DatatypeConverter.parseQName("item", nsc));
+        bindings.put("", "urn:default");
+        Assertions.assertEquals(new QName("urn:default", "item"), DatatypeConverter.parseQName("item", nsc));
+    }
+
+    @Test
+    public void testConverterInstallation() throws Exception {
+        // each case needs a DatatypeConverter class that has not picked its converter yet
+        Class<?> converter = new IsolatingLoader().loadClass(DatatypeConverter.class.getName());
+        Object custom = newConverter(converter, "custom");
+        // the default is created lazily, on the first conversion, so an explicit converter set before it wins
+        setDatatypeConverter(converter, custom);
+        Assertions.assertEquals("custom", parseString(converter, "x"));
+        // and a later call does not replace it
+        setDatatypeConverter(converter, newConverter(converter, "other"));
+        Assertions.assertEquals("custom", parseString(converter, "x"));
+
+        converter = new IsolatingLoader().loadClass(DatatypeConverter.class.getName());
+        // the first conversion installs the default, which a later call does not replace either
+        Assertions.assertEquals("x", parseString(converter, "x"));
+        setDatatypeConverter(converter, newConverter(converter, "custom"));
+        Assertions.assertEquals("x", parseString(converter, "x"));
+    }
+
+    private static Object newConverter(Class<?> datatypeConverter, String parsedString) throws Exception {
+        Class<?> type = datatypeConverter.getClassLoader().loadClass(DatatypeConverterInterface.class.getName());
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("parseString")) {
+                return parsedString;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static void setDatatypeConverter(Class<?> datatypeConverter, Object converter) throws Exception {
+        Class<?> type = datatypeConverter.getClassLoader().loadClass(DatatypeConverterInterface.class.getName());
+        datatypeConverter.getMethod("setDatatypeConverter", type).invoke(null, converter);
+    }
+
+    private static Object parseString(Class<?> datatypeConverter, String text) throws Exception {
+        return datatypeConverter.getMethod("parseString", String.class).invoke(null, text);
+    }
+
+    /**
+     * Defines its own copy of the classes of the API, so that their static state starts afresh.
+     */
+    private static final class IsolatingLoader extends ClassLoader {
+
+        IsolatingLoader() {
+            super(DatatypeConverterTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith("jakarta.xml.bind.")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    try (InputStream in = DatatypeConverter.class.getResourceAsStream(
+                            '/' + name.replace('.', '/') + ".class")) {
+                        if (in == null) {
+                            throw new ClassNotFoundException(name);
+                        }
+                        byte[] bytes = in.readAllBytes();
+                        c = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return c;
+            }
+        }
+    }
+
+    private static String offset(int millis) {
+        if (millis == 0) {
+            return "Z";
+        }
+        int minutes = Math.abs(millis) / 60000;
+        return String.format("%c%02d:%02d", millis < 0 ? '-' : '+', minutes / 60, minutes % 60);
+    }
+
+    private static void assertSameCalendar(String value, Function<String, Calendar> parser) throws Exception {
+        Calendar expected;
+        try {
+            expected = DatatypeFactory.newInstance().newXMLGregorianCalendar(value).toGregorianCalendar();
+        } catch (IllegalArgumentException e) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> parser.apply(value), value);
+            return;
+        }
+        Calendar actual = parser.apply(value);
+        for (int field = 0; field < Calendar.FIELD_COUNT; field++) {
+            Assertions.assertEquals(expected.isSet(field), actual.isSet(field), value + " field " + field);
+        }
+        Assertions.assertEquals(expected, actual, value);
+        Assertions.assertEquals(expected.getTimeZone().getID(), actual.getTimeZone().getID(), value);
+        for (int field = 0; field < Calendar.FIELD_COUNT; field++) {
+            Assertions.assertEquals(expected.get(field), actual.get(field), value + " field " + field);
+        }
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.MarshalException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.helpers.AbstractMarshallerImpl;
+import jakarta.xml.bind.util.JAXBStAXSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Result;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.sax.SAXResult;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+public class JAXBStAXSourceTest {
+
+    @Test
+    public void testTransform() throws Exception {
+        JAXBStAXSource source = new JAXBStAXSource(new ListMarshaller(), 1000);
+        DOMResult result = new DOMResult();
+        TransformerFactory.newInstance().newTransformer().transform(source, result);
+
+        Element list = ((Document) result.getNode()).getDocumentElement();
+        Assertions.assertEquals("urn:l", list.getNamespaceURI());
+        Assertions.assertEquals("list", list.getLocalName());
+        NodeList items = list.getElementsByTagNameNS("urn:p", "item");
+        Assertions.assertEquals(1000, items.getLength());
+        Element last = (Element) items.item(999);
+        Assertions.assertEquals("p:item", last.getTagName());
+        Assertions.assertEquals("999", last.getAttribute("a"));
+        Assertions.assertEquals("b999", last.getAttributeNS("urn:p", "b"));
+        Assertions.assertEquals("text 999", last.getTextContent());
+    }
+
+    @Test
+    public void testPull() throws Exception {
+        ListMarshaller marshaller = new ListMarshaller();
+        JAXBStAXSource source = new JAXBStAXSource(marshaller, 100_000);
+        XMLStreamReader reader = source.getXMLStreamReader();
+        Assertions.assertEquals(XMLStreamConstants.START_DOCUMENT, reader.getEventType());
+        // nothing is marshalled before the first event is pulled
+        Assertions.assertEquals(0, marshaller.marshalled.get());
+
+        Assertions.assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        Assertions.assertEquals("list", reader.getLocalName());
+        Assertions.assertEquals("urn:l", reader.getNamespaceURI());
+        Assertions.assertEquals(2, reader.getNamespaceCount());
+        Assertions.assertNull(reader.getNamespacePrefix(0));
+        Assertions.assertEquals("p", reader.getNamespacePrefix(1));
+        Assertions.assertEquals(0, reader.getAttributeCount());
+
+        Assertions.assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        Assertions.assertEquals("p", reader.getPrefix());
+        Assertions.assertEquals("urn:p", reader.getNamespaceURI("p"));
+        Assertions.assertEquals("urn:p", reader.getNamespaceContext().getNamespaceURI("p"));
+        Assertions.assertEquals(2, reader.getAttributeCount());
+        Assertions.assertEquals("0", reader.getAttributeValue(null, "a"));
+        Assertions.assertEquals("b0", reader.getAttributeValue("urn:p", "b"));
+        Assertions.assertEquals("p", reader.getAttributePrefix(1));
+        Assertions.assertEquals("text 0", reader.getElementText());
+        Assertions.assertEquals(XMLStreamConstants.END_ELEMENT, reader.getEventType());
+
+        // the producer is held back by the consumer, and stops when the reader is closed
+        Thread.sleep(100);
+        Assertions.assertTrue(marshaller.marshalled.get() < 1000, String.valueOf(marshaller.marshalled.get()));
+        reader.close();
+        Assertions.assertTrue(marshaller.finished.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(marshaller.marshalled.get() < 1000);
+        Assertions.assertFalse(reader.hasNext());
+        Assertions.assertThrows(XMLStreamException.class, reader::next);
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        XMLStreamReader reader = new JAXBStAXSource(new ListMarshaller(), -1).getXMLStreamReader();
+        Assertions.assertEquals(XMLStreamConstants.START_ELEMENT, reader.next());
+        XMLStreamException e = Assertions.assertThrows(XMLStreamException.class, () -> {
+            while (reader.hasNext()) {
+                reader.next();
+            }
+        });
+        Assertions.assertInstanceOf(MarshalException.class, e.getCause());
+
+        // a rejected start is reported by the reader, and tried again on the next call
+        AtomicInteger attempts = new AtomicInteger();
+        XMLStreamReader retried = new JAXBStAXSource(new ListMarshaller(), 1, task -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new RejectedExecutionException();
+            }
+            new Thread(task).start();
+        }).getXMLStreamReader();
+        e = Assertions.assertThrows(XMLStreamException.class, retried::next);
+        Assertions.assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        Assertions.assertEquals(XMLStreamConstants.START_ELEMENT, retried.next());
+        Assertions.assertEquals(2, attempts.get());
+        retried.close();
+
+        JAXBContext context = null;
+        Assertions.assertThrows(JAXBException.class, () -> new JAXBStAXSource(context, 1));
+        Assertions.assertThrows(JAXBException.class, () -> new JAXBStAXSource(new ListMarshaller(), null));
+        Assertions.assertThrows(JAXBException.class, () -> new JAXBStAXSource((Marshaller) null, 1));
+        Assertions.assertThrows(JAXBException.class, () -> new JAXBStAXSource(new ListMarshaller(), 1, null));
+    }
+
+    /**
+     * Marshals an integer n as a list of n items, or fails after the start of the list for a negative integer.
+     */
+    private static final class ListMarshaller extends AbstractMarshallerImpl {
+
+        final AtomicInteger marshalled = new AtomicInteger();
+        final CountDownLatch finished = new CountDownLatch(1);
+
+        @Override
+        public void marshal(Object jaxbElement, Result result) throws JAXBException {
+            ContentHandler handler = ((SAXResult) result).getHandler();
+            int count = (Integer) jaxbElement;
+            try {
+                handler.startDocument();
+                handler.startPrefixMapping("", "urn:l");
+                handler.startPrefixMapping("p", "urn:p");
+                AttributesImpl declarations = new AttributesImpl();
+                declarations.addAttribute("", "", "xmlns", "CDATA", "urn:l");
+                declarations.addAttribute("", "", "xmlns:p", "CDATA", "urn:p");
+                handler.startElement("urn:l", "list", "list", declarations);
+                if (count < 0) {
+                    throw new MarshalException("negative");
+                }
+                for (int i = 0; i < count; i++) {
+                    AttributesImpl attributes = new AttributesImpl();
+                    attributes.addAttribute("", "a", "a", "CDATA", String.valueOf(i));
+                    attributes.addAttribute("urn:p", "b", "p:b", "CDATA", "b" + i);
+                    handler.startElement("urn:p", "item", "p:item", attributes);
+                    char[] text = ("text " + i).toCharArray();
+                    handler.characters(text, 0, text.length);
+                    handler.endElement("urn:p", "item", "p:item");
+                    marshalled.incrementAndGet();
+                }
+                handler.endElement("urn:l", "list", "list");
+                handler.endPrefixMapping("p");
+                handler.endPrefixMapping("");
+                handler.endDocument();
+            } catch (SAXException e) {
+                throw new MarshalException(e);
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.MarshalException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.helpers.AbstractMarshallerImpl;
+import jakarta.xml.bind.util.ParallelMarshaller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMarshallerTest {
+
+    private static final JAXBContext CONTEXT = new JAXBContext() {
+        @Override
+        public Unmarshaller createUnmarshaller() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Marshaller createMarshaller() {
+            return new ItemMarshaller();
+        }
+    };
+
+    @Test
+    public void testMarshal() throws Exception {
+        int count = 10_000;
+        int sliceSize = 7;
+        int maxSlicesInFlight = 3;
+        String header = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><p:export xmlns:p=\"urn:a&amp;b\">";
+        StringBuilder expected = new StringBuilder(header);
+        IntStream.range(0, count).forEach(i -> expected.append(String.format("<i>%05d</i>", i)));
+        expected.append("</p:export>");
+
+        AtomicInteger read = new AtomicInteger();
+        Iterable<Integer> items = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < count;
+            }
+
+            @Override
+            public Integer next() {
+                return read.getAndIncrement();
+            }
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes.write(b, off, len);
+                // the items read but not written yet: the slices in flight and the one being read
+                int written = Math.max(0, bytes.size() - header.length()) / 12;
+                Assertions.assertTrue(read.get() - written <= (maxSlicesInFlight + 1) * sliceSize);
+            }
+        };
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new ParallelMarshaller(CONTEXT, pool, sliceSize, maxSlicesInFlight)
+                    .marshal(items, new QName("urn:a&b", "export", "p"), out);
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertEquals(expected.toString(), bytes.toString(StandardCharsets.UTF_8));
+
+        ParallelMarshaller marshaller = new ParallelMarshaller(CONTEXT);
+        bytes.reset();
+        marshaller.marshal(List.of(), new QName("export"), bytes);
+        Assertions.assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><export></export>",
+                bytes.toString(StandardCharsets.UTF_8));
+        bytes.reset();
+        marshaller.marshal(List.of(1), new QName("urn:x", "export"), bytes);
+        Assertions.assertTrue(bytes.toString(StandardCharsets.UTF_8).endsWith(
+                "<ns0:export xmlns:ns0=\"urn:x\"><i>00001</i></ns0:export>"));
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        ParallelMarshaller marshaller = new ParallelMarshaller(CONTEXT, ForkJoinPool.commonPool(), 3, 2);
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        Assertions.assertThrows(MarshalException.class,
+                () -> marshaller.marshal(IntStream.rangeClosed(0, 100).map(i -> i == 50 ? -1 : i).boxed().toList(),
+                        new QName("export"), new ByteArrayOutputStream()));
+        Assertions.assertThrows(MarshalException.class, () -> marshaller.marshal(items, new QName("export"),
+                new OutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        throw new IOException();
+                    }
+                }));
+
+        // the encoding names that Java does not know are resolved like AbstractMarshallerImpl does it
+        ParallelMarshaller ucs2 = new ParallelMarshaller(CONTEXT) {
+            @Override
+            protected Marshaller createMarshaller() throws JAXBException {
+                Marshaller m = super.createMarshaller();
+                m.setProperty(Marshaller.JAXB_ENCODING, "ISO-10646-UCS-2");
+                return m;
+            }
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ucs2.marshal(List.of(), new QName("export"), bytes);
+        String ucs2Xml = bytes.toString(StandardCharsets.UTF_16);
+        Assertions.assertTrue(ucs2Xml.startsWith("<?xml version=\"1.0\" encoding=\"UTF-16"), ucs2Xml);
+        Assertions.assertTrue(ucs2Xml.endsWith("?><export></export>"), ucs2Xml);
+
+        Assertions.assertThrows(JAXBException.class, () -> new ParallelMarshaller(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelMarshaller(CONTEXT, ForkJoinPool.commonPool(), 1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> marshaller.marshal(items, null, new ByteArrayOutputStream()));
+    }
+
+    /**
+     * Writes an integer as a fragment of fixed length, and fails on negative integers.
+     */
+    private static final class ItemMarshaller extends AbstractMarshallerImpl {
+
+        @Override
+        public void marshal(Object jaxbElement, Result result) throws JAXBException {
+            if (!isFragment() || (Integer) jaxbElement < 0) {
+                throw new MarshalException(String.valueOf(jaxbElement));
+            }
+            OutputStream out = ((StreamResult) result).getOutputStream();
+            try {
+                out.write(String.format("<i>%05d</i>", jaxbElement).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new MarshalException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.UnmarshalException;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.UnmarshallerHandler;
+import jakarta.xml.bind.helpers.AbstractUnmarshallerImpl;
+import jakarta.xml.bind.util.ParallelUnmarshaller;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class ParallelUnmarshallerTest {
+
+    private static final JAXBContext CONTEXT = new JAXBContext() {
+        @Override
+        public Unmarshaller createUnmarshaller() {
+            return new RecordUnmarshaller();
+        }
+
+        @Override
+        public Marshaller createMarshaller() {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @Test
+    public void testUnmarshal() throws Exception {
+        StringBuilder xml = new StringBuilder("<?xml version='1.0' encoding='UTF-8'?>\n<!-- <export> -->\n"
+                + "<!DOCTYPE export [ <!ENTITY e \"entity\"> <!ATTLIST export x CDATA '>'> ]>\n"
+                + "<export xmlns:p='urn:p' xmlns='urn:d' x='é>'>\n");
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            switch (i % 5) {
+                case 0:
+                    xml.append("<p:item id=\"").append(i).append("\">&e; ").append(i).append("</p:item>");
+                    expected.add("{urn:p}item=entity " + i);
+                    break;
+                case 1:
+                    xml.append("<empty a='/>' b=\"").append(i).append("\"/>");
+                    expected.add("{urn:d}empty=");
+                    break;
+                case 2:
+                    xml.append("<nested><nested>é<![CDATA[</nested>]]></nested><!-- </nested> --></nested>");
+                    expected.add("{urn:d}nested=é</nested>");
+                    break;
+                case 3:
+                    xml.append("<?pi <data>?><pi>?></pi>");
+                    expected.add("{urn:d}pi=?>");
+                    break;
+                default:
+                    xml.append("\n  <q:last xmlns:q='urn:q'><x/>").append(i).append("</q:last>\n");
+                    expected.add("{urn:q}last=" + i);
+                    break;
+            }
+        }
+        xml.append("</export>\n<!-- trailing -->");
+        byte[] bytes = xml.toString().getBytes(StandardCharsets.UTF_8);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[]{1, 100, 1 << 20}) {
+                ParallelUnmarshaller unmarshaller = new ParallelUnmarshaller(CONTEXT, pool, chunkSize);
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                Assertions.assertEquals(expected, unmarshaller.unmarshal(buffer));
+                Assertions.assertEquals(0, buffer.position());
+
+                Path file = Files.createTempFile("parallel", ".xml");
+                try {
+                    Files.write(file, bytes);
+                    Assertions.assertEquals(expected, unmarshaller.unmarshal(file));
+                } finally {
+                    Files.delete(file);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        ParallelUnmarshaller unmarshaller = new ParallelUnmarshaller(CONTEXT);
+        Assertions.assertEquals(List.of(), unmarshaller.unmarshal(ByteBuffer.wrap("<a x='1'/>".getBytes())));
+        Assertions.assertEquals(List.of(), unmarshaller.unmarshal(ByteBuffer.wrap("<a>  </a>".getBytes())));
+    }
+
+    @Test
+    public void testDocumentType() throws Exception {
+        ParallelUnmarshaller unmarshaller = new ParallelUnmarshaller(CONTEXT, ForkJoinPool.commonPool(), 1);
+        String xml = "<!DOCTYPE a [ <!-- don't --> <?pi \"?> <!ENTITY e 'x'> <!-- \" --> ]><a><b>&e;</b><b/></a>";
+        Assertions.assertEquals(List.of("{}b=x", "{}b="),
+                unmarshaller.unmarshal(ByteBuffer.wrap(xml.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testExternalDocumentType() throws Exception {
+        Path dir = Files.createTempDirectory("parallel");
+        Path dtd = dir.resolve("export.dtd");
+        Path file = dir.resolve("export.xml");
+        StringBuilder xml = new StringBuilder("<!DOCTYPE export SYSTEM 'export.dtd'><export>");
+        for (int i = 0; i < 100; i++) {
+            xml.append("<item>&e;</item>");
+        }
+        xml.append("</export>");
+        try {
+            Files.writeString(dtd, "<!ENTITY e 'entity'>");
+            Files.writeString(file, xml);
+            // every chunk resolves the DTD relative to the file
+            ParallelUnmarshaller unmarshaller = new ParallelUnmarshaller(CONTEXT, ForkJoinPool.commonPool(), 1);
+            List<Object> records = unmarshaller.unmarshal(file);
+            Assertions.assertEquals(100, records.size());
+            Assertions.assertTrue(records.stream().allMatch("{}item=entity"::equals), records::toString);
+        } finally {
+            Files.deleteIfExists(dtd);
+            Files.delete(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void testMappings() throws Exception {
+        Path maps = Path.of("/proc/self/maps");
+        Assumptions.assumeTrue(Files.isReadable(maps));
+        StringBuilder xml = new StringBuilder("<export>");
+        for (int i = 0; i < 1000; i++) {
+            xml.append("<item>").append(i).append("</item>");
+        }
+        xml.append("</export>");
+        Path file = Files.createTempFile("parallel", ".xml");
+        try {
+            Files.writeString(file, xml);
+            Assertions.assertEquals(1000,
+                    new ParallelUnmarshaller(CONTEXT, ForkJoinPool.commonPool(), 1).unmarshal(file).size());
+            // the chunks are slices of the mapped window rather than mappings of their own
+            try (Stream<String> lines = Files.lines(maps)) {
+                Assertions.assertTrue(lines.filter(line -> line.endsWith(file.toString())).count() <= 1);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        ParallelUnmarshaller unmarshaller = new ParallelUnmarshaller(CONTEXT);
+        for (String xml : new String[]{"<a><b>1</b><b>2", "<a><b>1</b>text<b>2</b></a>", "<a><b>1</c></a>"}) {
+            Assertions.assertThrows(UnmarshalException.class,
+                    () -> unmarshaller.unmarshal(ByteBuffer.wrap(xml.getBytes(StandardCharsets.UTF_8))), xml);
+        }
+        // the text between two chunks is not parsed by any worker
+        ParallelUnmarshaller small = new ParallelUnmarshaller(CONTEXT, ForkJoinPool.commonPool(), 1);
+        for (String xml : new String[]{"<a><b>1</b>text<b>2</b></a>", "<a><b/><![CDATA[ ]]>&e;<b/></a>",
+                "<a><b/><![CDATA[ ] ]]><b/></a>"}) {
+            Assertions.assertThrows(UnmarshalException.class,
+                    () -> small.unmarshal(ByteBuffer.wrap(xml.getBytes(StandardCharsets.UTF_8))), xml);
+        }
+        Assertions.assertEquals(2, small.unmarshal(ByteBuffer.wrap("<a><b/> <![CDATA[ ]]>\n<b/></a>".getBytes())).size());
+        // only the encodings compatible with US-ASCII can be scanned
+        for (String encoding : new String[]{"UTF-16", "UTF-16LE", "UTF-32", "UTF-32LE", "Cp037"}) {
+            byte[] xml = "<?xml version='1.0'?><a><b/></a>".getBytes(Charset.forName(encoding));
+            Assertions.assertThrows(UnmarshalException.class, () -> unmarshaller.unmarshal(ByteBuffer.wrap(xml)),
+                    encoding);
+        }
+        for (String encoding : new String[]{"UTF-16", "utf-32", "EBCDIC-CP-US", "unknown"}) {
+            String xml = "<?xml version='1.0' encoding='" + encoding + "'?><a><b/></a>";
+            Assertions.assertThrows(UnmarshalException.class,
+                    () -> unmarshaller.unmarshal(ByteBuffer.wrap(xml.getBytes(StandardCharsets.US_ASCII))), encoding);
+        }
+        for (String xml : new String[]{"\ufeff<?xml version=\"1.0\" encoding=\"UTF-8\" ?><a><b/></a>",
+                "<?xml version='1.0' encoding='ISO-8859-1'?><a><b/></a>", " <a><b/></a>"}) {
+            Assertions.assertEquals(1,
+                    unmarshaller.unmarshal(ByteBuffer.wrap(xml.getBytes(StandardCharsets.UTF_8))).size(), xml);
+        }
+
+        Assertions.assertThrows(JAXBException.class, () -> new ParallelUnmarshaller(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelUnmarshaller(CONTEXT, ForkJoinPool.commonPool(), 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> unmarshaller.unmarshal((ByteBuffer) null));
+        Assertions.assertThrows(JAXBException.class, () -> unmarshaller.unmarshal(Path.of("does-not-exist.xml")));
+    }
+
+    /**
+     * Returns the name of the record followed by its text.
+     */
+    private static final class RecordUnmarshaller extends AbstractUnmarshallerImpl {
+
+        @Override
+        protected Object unmarshal(XMLReader reader, InputSource source) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object unmarshal(Node node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UnmarshallerHandler getUnmarshallerHandler() {
+            return new RecordHandler();
+        }
+    }
+
+    private static final class RecordHandler extends DefaultHandler implements UnmarshallerHandler {
+
+        private final StringBuilder record = new StringBuilder();
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (record.length() == 0) {
+                record.append('{').append(uri).append('}').append(localName).append('=');
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            record.append(ch, start, length);
+        }
+
+        @Override
+        public Object getResult() {
+            return record.toString();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.UnmarshalException;
+import jakarta.xml.bind.UnmarshallerHandler;
+import jakarta.xml.bind.helpers.AbstractUnmarshallerImpl;
+import jakarta.xml.bind.util.UnmarshallingPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+public class UnmarshallingPublisherTest {
+
+    private static final String XML = "<?xml version='1.0'?><!-- items --><items>\n"
+            + " <item>1</item><item>2</item>\n <!-- 3 --> <item>3</item><nil/><item>4</item>\n</items>";
+
+    @Test
+    public void testDemand() throws Exception {
+        ItemUnmarshaller unmarshaller = new ItemUnmarshaller();
+        ClosingStream stream = new ClosingStream(XML);
+        UnmarshallingPublisher<String> publisher = new UnmarshallingPublisher<>(unmarshaller, stream, String.class);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        // nothing is parsed before there is demand, and no more than asked for
+        subscriber.subscription.request(1);
+        subscriber.await(1);
+        Assertions.assertEquals(List.of("1"), subscriber.items);
+        Assertions.assertEquals(1, unmarshaller.count);
+        subscriber.subscription.request(2);
+        subscriber.await(3);
+        Assertions.assertEquals(List.of("1", "2", "3"), subscriber.items);
+        Assertions.assertEquals(3, unmarshaller.count);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertNull(subscriber.done.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of("1", "2", "3", "4"), subscriber.items);
+        Assertions.assertTrue(stream.closed.get());
+        // the stream is read on the threads of the async methods, not on the common pool
+        for (Thread thread : subscriber.threads) {
+            Assertions.assertTrue(thread.isDaemon(), thread::toString);
+            Assertions.assertFalse(thread instanceof ForkJoinWorkerThread, thread::toString);
+        }
+
+        TestSubscriber late = new TestSubscriber();
+        publisher.subscribe(late);
+        Assertions.assertInstanceOf(IllegalStateException.class, late.error());
+    }
+
+    @Test
+    public void testSynchronousRequests() throws Exception {
+        Executor direct = Runnable::run;
+        XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(XML));
+        reader.nextTag();
+        UnmarshallingPublisher<String> publisher = new UnmarshallingPublisher<>(new ItemUnmarshaller(), reader,
+                String.class, direct);
+        // requests one item at a time from within onNext
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(String item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        Assertions.assertTrue(subscriber.done.isDone());
+        Assertions.assertEquals(List.of("1", "2", "3", "4"), subscriber.items);
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        Executor direct = Runnable::run;
+        ClosingStream stream = new ClosingStream("<items><item>1</item><item>2</oops></items>");
+        TestSubscriber subscriber = new TestSubscriber();
+        new UnmarshallingPublisher<>(new ItemUnmarshaller(), XMLInputFactory.newFactory().createXMLStreamReader(stream),
+                String.class, direct).subscribe(subscriber);
+        subscriber.subscription.request(5);
+        Assertions.assertEquals(List.of("1"), subscriber.items);
+        Assertions.assertInstanceOf(UnmarshalException.class, subscriber.error());
+
+        stream = new ClosingStream(XML);
+        subscriber = new TestSubscriber();
+        new UnmarshallingPublisher<>(new ItemUnmarshaller(), stream, String.class).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.await(1);
+        subscriber.subscription.cancel();
+        for (int i = 0; i < 500 && !stream.closed.get(); i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(stream.closed.get());
+
+        subscriber = new TestSubscriber();
+        new UnmarshallingPublisher<>(new ItemUnmarshaller(), new ClosingStream(XML), String.class)
+                .subscribe(subscriber);
+        subscriber.subscription.request(0);
+        Assertions.assertInstanceOf(IllegalArgumentException.class, subscriber.error());
+
+        // a rejected task ends the subscription, and a later request does not try again
+        ClosingReader reader = new ClosingReader();
+        subscriber = new TestSubscriber();
+        AtomicInteger executions = new AtomicInteger();
+        Executor rejecting = task -> {
+            executions.incrementAndGet();
+            throw new RejectedExecutionException();
+        };
+        new UnmarshallingPublisher<>(new ItemUnmarshaller(), reader, String.class, rejecting).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        Assertions.assertInstanceOf(RejectedExecutionException.class, subscriber.error());
+        Assertions.assertTrue(reader.closed);
+        subscriber.subscription.request(1);
+        Assertions.assertEquals(2, executions.get());
+
+        // an exception thrown by onNext cancels the subscription and reaches the uncaught exception handler
+        reader = new ClosingReader();
+        CompletableFuture<Throwable> uncaught = new CompletableFuture<>();
+        Executor handled = task -> {
+            Thread thread = new Thread(task);
+            thread.setUncaughtExceptionHandler((t, e) -> uncaught.complete(e));
+            thread.start();
+        };
+        TestSubscriber throwing = new TestSubscriber() {
+            @Override
+            public void onNext(String item) {
+                throw new IllegalStateException(item);
+            }
+        };
+        new UnmarshallingPublisher<>(new ItemUnmarshaller(), reader, String.class, handled).subscribe(throwing);
+        throwing.subscription.request(5);
+        Assertions.assertEquals("1", uncaught.get(5, TimeUnit.SECONDS).getMessage());
+        Assertions.assertTrue(reader.closed);
+        Assertions.assertFalse(throwing.done.isDone());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new UnmarshallingPublisher<>(new ItemUnmarshaller(), (InputStream) null, String.class));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new UnmarshallingPublisher<>(null, new ClosingStream(XML), String.class));
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<String> {
+
+        final List<String> items = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            synchronized (items) {
+                threads.add(Thread.currentThread());
+                items.add(item);
+                items.notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        void await(int count) throws InterruptedException {
+            synchronized (items) {
+                long deadline = System.currentTimeMillis() + 5000;
+                while (items.size() < count && System.currentTimeMillis() < deadline) {
+                    items.wait(100);
+                }
+            }
+            // give a wrongly eager publisher the time to parse ahead
+            Thread.sleep(50);
+        }
+
+        Throwable error() throws Exception {
+            try {
+                done.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                return e.getCause();
+            }
+            return null;
+        }
+    }
+
+    private static final class ClosingStream extends ByteArrayInputStream {
+
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        ClosingStream(String xml) {
+            super(xml.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    private static final class ClosingReader extends StreamReaderDelegate {
+
+        volatile boolean closed;
+
+        ClosingReader() throws XMLStreamException {
+            super(XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(XML)));
+        }
+
+        @Override
+        public void close() throws XMLStreamException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * Unmarshals the text of an element, and {@code <nil/>} as nil.
+     */
+    private static final class ItemUnmarshaller extends AbstractUnmarshallerImpl {
+
+        volatile int count;
+
+        @Override
+        public <T> JAXBElement<T> unmarshal(XMLStreamReader reader, Class<T> expectedType) throws JAXBException {
+            try {
+                QName name = reader.getName();
+                String text = reader.getElementText();
+                reader.next();
+                count++;
+                return new JAXBElement<>(name, expectedType,
+                        "nil".equals(name.getLocalPart()) ? null : expectedType.cast(text));
+            } catch (XMLStreamException e) {
+                throw new UnmarshalException(e);
+            }
+        }
+
+        @Override
+        protected Object unmarshal(XMLReader reader, InputSource source) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object unmarshal(Node node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UnmarshallerHandler getUnmarshallerHandler() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import jakarta.xml.bind.annotation.adapters.NormalizedStringAdapter;
+import jakarta.xml.bind.annotation.adapters.StringInterner;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class WhiteSpaceAdapterTest {
+
+    @Test
+    public void testCollapse() {
+        CollapsedStringAdapter adapter = new CollapsedStringAdapter();
+        Assertions.assertNull(adapter.unmarshal(null));
+        for (String collapsed : new String[] {"", "a", "New York", "a b c"}) {
+            Assertions.assertSame(collapsed, adapter.unmarshal(collapsed));
+        }
+        Assertions.assertEquals("New York", adapter.unmarshal("  New \t\r\n York "));
+        Assertions.assertEquals("", adapter.unmarshal(" \t "));
+        Assertions.assertEquals("a b", adapter.unmarshal("a\tb"));
+        Assertions.assertEquals("a b", adapter.unmarshal("a b "));
+
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            String text = randomText(random);
+            Assertions.assertEquals(text.trim().replaceAll("[ \t\r\n]+", " "), adapter.unmarshal(text), text);
+        }
+    }
+
+    @Test
+    public void testReplace() {
+        NormalizedStringAdapter adapter = new NormalizedStringAdapter();
+        Assertions.assertNull(adapter.unmarshal(null));
+        for (String normalized : new String[] {"", "a", " a  b "}) {
+            Assertions.assertSame(normalized, adapter.unmarshal(normalized));
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            String text = randomText(random);
+            Assertions.assertEquals(text.replaceAll("[\t\r\n]", " "), adapter.unmarshal(text), text);
+        }
+    }
+
+    @Test
+    public void testInterner() {
+        StringInterner interner = new StringInterner(64);
+        CollapsedStringAdapter collapsed = new CollapsedStringAdapter(interner);
+        NormalizedStringAdapter normalized = new NormalizedStringAdapter(interner);
+
+        String first = collapsed.unmarshal(" DE ");
+        Assertions.assertEquals("DE", first);
+        Assertions.assertSame(first, collapsed.unmarshal("DE"));
+        Assertions.assertSame(first, collapsed.unmarshal("\tDE\n"));
+        Assertions.assertSame(first, normalized.unmarshal(new String("DE")));
+        Assertions.assertEquals(3, interner.getHitCount());
+        Assertions.assertEquals(1, interner.getMissCount());
+        Assertions.assertEquals(0.75, interner.getHitRate());
+        Assertions.assertSame(first, interner.intern("<DE>".toCharArray(), 1, 2));
+        Assertions.assertEquals("DEU", interner.intern("DEU".toCharArray(), 0, 3));
+
+        String a = "a\tb";
+        Assertions.assertSame(normalized.unmarshal(a), normalized.unmarshal(a));
+        Assertions.assertSame(collapsed.unmarshal("a  b"), collapsed.unmarshal("a b"));
+        String longText = " " + "x ".repeat(StringInterner.MAX_LENGTH);
+        Assertions.assertEquals(longText.trim(), collapsed.unmarshal(longText));
+        Assertions.assertSame(longText, normalized.unmarshal(longText));
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            String text = randomText(random);
+            Assertions.assertEquals(new CollapsedStringAdapter().unmarshal(text), collapsed.unmarshal(text), text);
+            Assertions.assertEquals(new NormalizedStringAdapter().unmarshal(text), normalized.unmarshal(text), text);
+        }
+
+        String longValue = "x".repeat(StringInterner.MAX_LENGTH + 1);
+        Assertions.assertSame(longValue, interner.intern(longValue));
+        Assertions.assertNull(interner.intern(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StringInterner(0));
+    }
+
+    private static String randomText(Random random) {
+        char[] alphabet = {'a', 'b', ' ', '\t', '\n', '\r', '!'};
+        char[] text = new char[random.nextInt(8)];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(text);
+    }
+}
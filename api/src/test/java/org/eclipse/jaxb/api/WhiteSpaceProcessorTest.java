@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package org.eclipse.jaxb.api;
+
+import jakarta.xml.bind.internal.WhiteSpaceProcessor;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class WhiteSpaceProcessorTest {
+
+    /** leading, trailing and interior runs, and characters that look like white space but are not XML white space */
+    private static final String[] TEXTS = {
+            "", " ", "\t\r\n ", "a", "New York", " a", "a ", "  a  b  ", "a\tb", "a \tb", "a\n", "\na",
+            "\u00e9\u00a0\u00fc", " \u00a0 ", "\u3000x\u3000", "\u2028a\u2029", "\u65e5\u672c \u8a9e\t\n",
+            "a\u0085b", " \ud83d\ude00 x "};
+
+    @Test
+    public void testCollapse() {
+        for (String text : TEXTS) {
+            String expected = collapse(text);
+            Assertions.assertEquals(expected, WhiteSpaceProcessor.collapse(text), text);
+            Assertions.assertEquals(expected, WhiteSpaceProcessor.collapse(new StringBuilder(text)).toString(), text);
+            if (expected.equals(text)) {
+                Assertions.assertSame(text, WhiteSpaceProcessor.collapse(text), text);
+            }
+        }
+    }
+
+    @Test
+    public void testReplace() {
+        for (String text : TEXTS) {
+            String expected = text.replaceAll("[\t\r\n]", " ");
+            Assertions.assertEquals(expected, WhiteSpaceProcessor.replace(text), text);
+            Assertions.assertEquals(expected, WhiteSpaceProcessor.replace(new StringBuilder(text)).toString(), text);
+            if (expected.equals(text)) {
+                Assertions.assertSame(text, WhiteSpaceProcessor.replace(text), text);
+            }
+        }
+    }
+
+    @Test
+    public void testTrim() {
+        for (String text : TEXTS) {
+            String expected = text.replaceAll("^[ \t\r\n]+|[ \t\r\n]+$", "");
+            Assertions.assertEquals(expected, WhiteSpaceProcessor.trim(text), text);
+            Assertions.assertEquals(expected, WhiteSpaceProcessor.trim(new StringBuilder(text)).toString(), text);
+            if (expected.equals(text)) {
+                Assertions.assertSame(text, WhiteSpaceProcessor.trim(text), text);
+            }
+        }
+    }
+
+    @Test
+    public void testIndexOfWhiteSpace() {
+        for (String text : TEXTS) {
+            for (int from = 0; from <= text.length(); from++) {
+                Assertions.assertEquals(indexOfWhiteSpace(text, from), WhiteSpaceProcessor.indexOfWhiteSpace(text, from),
+                        text + " from " + from);
+            }
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(7);
+        char[] alphabet = {' ', '\t', '\r', '\n', 'a', '\u00e9', '\u00a0', '\u3000'};
+        for (int i = 0; i < 100_000; i++) {
+            char[] chars = new char[random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String text = new String(chars);
+            Assertions.assertEquals(collapse(text), WhiteSpaceProcessor.collapse(text), text);
+            Assertions.assertEquals(text.replaceAll("[\t\r\n]", " "), WhiteSpaceProcessor.replace(text), text);
+            Assertions.assertEquals(indexOfWhiteSpace(text, 0), WhiteSpaceProcessor.indexOfWhiteSpace(text, 0), text);
+        }
+    }
+
+    private static String collapse(String text) {
+        return text.replaceAll("[ \t\r\n]+", " ").replaceAll("^ | $", "");
+    }
+
+    private static int indexOfWhiteSpace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}